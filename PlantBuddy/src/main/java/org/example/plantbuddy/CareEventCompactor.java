@@ -0,0 +1,107 @@
+package org.example.plantbuddy;
+
+import org.example.plantbuddy.dao.PlantRepository;
+import org.example.plantbuddy.util.DatabaseUtil;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background retention job for care events.
+ * Events older than care.retention.days are folded into per-plant monthly rollups and deleted,
+ * one small transaction at a time, so the care_events table stays small without long locks.
+ * Each batch commits on its own: stopping the job, or the application, between or even during
+ * batches loses nothing, and the next run continues where the last one stopped.
+ */
+public class CareEventCompactor {
+    // Pause between batches so compaction never competes with the UI for the database
+    private static final long PAUSE_MILLIS = 200;
+
+    private final PlantRepository plantRepository;
+    private final int retentionDays;
+    private final int batchSize;
+    private final long intervalHours;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "care-event-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private boolean started;
+    private volatile boolean stopped;
+
+    public CareEventCompactor(PlantRepository plantRepository) {
+        this.plantRepository = plantRepository;
+        this.retentionDays = DatabaseUtil.getIntProperty("care.retention.days", 365);
+        this.batchSize = Math.max(1, DatabaseUtil.getIntProperty("care.retention.batchSize", 1000));
+        this.intervalHours = Math.max(1, DatabaseUtil.getIntProperty("care.retention.intervalHours", 24));
+    }
+
+    /**
+     * Runs compaction shortly after startup and then every care.retention.intervalHours,
+     * called once the schema is ready; does nothing if care.retention.days is 0
+     */
+    public synchronized void start() {
+        if (started || stopped || retentionDays <= 0) {
+            return;
+        }
+        started = true;
+        // The first run waits a minute so it does not slow down startup
+        executor.scheduleWithFixedDelay(this::compact, TimeUnit.MINUTES.toMillis(1),
+                TimeUnit.HOURS.toMillis(intervalHours), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Compacts batches until no event older than the retention period is left or the job is stopped
+     * @return The number of events compacted
+     */
+    public int compact() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long start = System.nanoTime();
+        int total = 0;
+
+        try {
+            while (!stopped) {
+                int compacted = plantRepository.compactCareEvents(cutoff, batchSize);
+                total += compacted;
+                if (compacted < batchSize) {
+                    break;
+                }
+                Thread.sleep(PAUSE_MILLIS);
+            }
+        } catch (SQLException e) {
+            // Committed batches stay compacted; the next run retries the rest
+            System.err.println("Error compacting care events: " + e.getMessage());
+            e.printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (total > 0) {
+            System.out.println("Compacted " + total + " care events older than " + cutoff.toLocalDate() +
+                    " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }
+        return total;
+    }
+
+    /**
+     * Stops the job, called when the application exits before the connection pool is closed.
+     * A batch that is being written is allowed to commit rather than being interrupted mid-statement;
+     * no further batch is started.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            stopped = true;
+            executor.shutdown();
+        }
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                System.err.println("Care event compaction still running at shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
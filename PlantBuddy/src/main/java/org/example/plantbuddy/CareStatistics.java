@@ -0,0 +1,418 @@
+package org.example.plantbuddy;
+
+import org.example.plantbuddy.dao.CareEventListener;
+import org.example.plantbuddy.dao.PlantRepository;
+import org.example.plantbuddy.model.AdherenceCheckpoint;
+import org.example.plantbuddy.model.AdherenceStats;
+import org.example.plantbuddy.model.CareSummary;
+import org.example.plantbuddy.model.LocationAdherence;
+import org.example.plantbuddy.model.Plant;
+import org.example.plantbuddy.util.DatabaseUtil;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Care adherence statistics per plant and per location: on-time rate, average lateness and streaks.
+ * The statistics are kept in memory and updated incrementally from the repository's
+ * {@link CareEventListener}, so reading them is a map lookup and care_events is never scanned for them.
+ * They are checkpointed to the care_adherence table every stats.checkpointIntervalMinutes and on exit.
+ * On start the checkpoint is loaded and only the events recorded since are replayed; without one, the
+ * statistics are rebuilt in a single streaming pass over the care history: the monthly rollups of
+ * compacted events, then care_events. Counting a care date is idempotent, so replaying events that are
+ * already counted is harmless.
+ * The checkpoint is exact; a rebuild is only approximate for compacted months (see applySummary),
+ * so the checkpoint is always preferred and a rebuild only runs without one or when asked for.
+ * All updates run on one background thread, in the order the events were recorded.
+ */
+public class CareStatistics implements CareEventListener {
+    private static final List<String> CARE_TYPES = List.of("Watering", "Fertilizing");
+    // Events this close before the checkpoint are replayed too, covering write-behind and clock skew
+    private static final long REPLAY_MARGIN_DAYS = 1;
+
+    private record Key(int plantId, String careType) {
+    }
+
+    private record LocationKey(String location, String careType) {
+    }
+
+    private final PlantRepository plantRepository;
+    private final long checkpointIntervalMinutes;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "care-statistics");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Read from any thread, written only on the statistics thread
+    private final Map<Key, AdherenceStats> byPlant = new ConcurrentHashMap<>();
+    private final Map<LocationKey, LocationAdherence> byLocation = new ConcurrentHashMap<>();
+    // Only used on the statistics thread
+    private final Map<Integer, String> locations = new HashMap<>();
+    private final Set<Key> changed = new HashSet<>();
+    // Completes once the statistics have been restored or rebuilt on start
+    private final CompletableFuture<Void> restored = new CompletableFuture<>();
+    private boolean started;
+
+    public CareStatistics(PlantRepository plantRepository) {
+        this.plantRepository = plantRepository;
+        this.checkpointIntervalMinutes = Math.max(1, DatabaseUtil.getIntProperty("stats.checkpointIntervalMinutes", 5));
+    }
+
+    /**
+     * Restores the statistics and starts following care events, called once the schema is ready
+     * @return Completes once the statistics have been restored, whether or not that succeeded;
+     * anything that deletes care history waits for it, so the restore still sees that history
+     */
+    public synchronized CompletableFuture<Void> start() {
+        if (started) {
+            return restored;
+        }
+        started = true;
+        // Events recorded while restoring queue up behind it on the statistics thread
+        plantRepository.addCareEventListener(this);
+        executor.execute(() -> {
+            try {
+                restore();
+            } finally {
+                restored.complete(null);
+            }
+        });
+        executor.scheduleWithFixedDelay(this::checkpoint, checkpointIntervalMinutes, checkpointIntervalMinutes,
+                TimeUnit.MINUTES);
+        return restored;
+    }
+
+    /**
+     * Discards the statistics and recomputes them from the care history in one streaming pass,
+     * e.g. after care frequencies have been changed. Runs in the background.
+     * Months whose events have been compacted are approximated from their rollups, so the result can
+     * differ from the incremental statistics it replaces.
+     */
+    public void rebuild() {
+        executor.execute(this::rebuildNow);
+    }
+
+    /**
+     * Saves the statistics that changed and stops following care events, called when the application exits
+     */
+    public void shutdown() {
+        executor.execute(this::checkpoint);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                System.err.println("Timed out saving care statistics");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @param plantId The ID of the plant
+     * @param careType "Watering" or "Fertilizing"
+     * @return The plant's adherence, or null if no care of this type is known yet
+     */
+    public AdherenceStats getPlantStats(int plantId, String careType) {
+        return byPlant.get(new Key(plantId, careType));
+    }
+
+    /**
+     * @param location The location, e.g. "Balcony"
+     * @param careType "Watering" or "Fertilizing"
+     * @return The adherence of the plants in the location, or null if none has any care of this type yet
+     */
+    public LocationAdherence getLocationStats(String location, String careType) {
+        return byLocation.get(new LocationKey(location, careType));
+    }
+
+    @Override
+    public void careRecorded(int plantId, String eventType, LocalDateTime eventTime) {
+        executor.execute(() -> {
+            try {
+                // Served from the plant cache; the frequency and location are the plant's current ones
+                apply(plantRepository.getPlantById(plantId), eventType, eventTime.toLocalDate());
+            } catch (SQLException e) {
+                System.err.println("Error updating care statistics: " + e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void plantRemoved(int plantId) {
+        executor.execute(() -> {
+            for (String careType : CARE_TYPES) {
+                Key key = new Key(plantId, careType);
+                AdherenceStats removed = byPlant.remove(key);
+                changed.remove(key);
+                if (removed != null) {
+                    removeFromLocation(locations.get(plantId), removed);
+                }
+            }
+            locations.remove(plantId);
+        });
+    }
+
+    private void restore() {
+        try {
+            AdherenceCheckpoint checkpoint = plantRepository.loadAdherenceCheckpoint();
+            if (checkpoint == null) {
+                rebuildNow();
+                return;
+            }
+
+            long start = System.nanoTime();
+            LocalDateTime takenAt = LocalDateTime.now();
+            Map<Integer, Plant> plants = loadPlants();
+            for (AdherenceStats stats : checkpoint.stats()) {
+                Plant plant = plants.get(stats.plantId());
+                if (plant != null) {
+                    setLocation(plant);
+                    put(new Key(stats.plantId(), stats.careType()), stats);
+                }
+            }
+            changed.clear();
+
+            int replayed = replay(checkpoint.takenAt().minusDays(REPLAY_MARGIN_DAYS), plants);
+            plantRepository.saveAdherenceCheckpoint(takenAt, changedStats(), false);
+            changed.clear();
+            System.out.println("Restored care statistics of " + plants.size() + " plants, replaying " + replayed +
+                    " events, in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        } catch (SQLException e) {
+            System.err.println("Error restoring care statistics: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private void rebuildNow() {
+        try {
+            long start = System.nanoTime();
+            // Taken before reading, so events recorded during the pass are replayed next time
+            LocalDateTime takenAt = LocalDateTime.now();
+            byPlant.clear();
+            byLocation.clear();
+            locations.clear();
+            changed.clear();
+
+            // Compacted months first: their events are older than any left in care_events
+            Map<Integer, Plant> plants = loadPlants();
+            int[] counts = new int[2];
+            plantRepository.streamCareHistory(summary -> {
+                counts[0]++;
+                applySummary(plants.get(summary.plantId()), summary);
+            }, event -> {
+                counts[1]++;
+                apply(plants.get(event.plantId()), event.eventType(), event.eventDate().toLocalDate());
+            });
+            plantRepository.saveAdherenceCheckpoint(takenAt, byPlant.values(), true);
+            changed.clear();
+            System.out.println("Rebuilt care statistics from " + counts[0] + " compacted months and " +
+                    counts[1] + " events in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        } catch (SQLException e) {
+            System.err.println("Error rebuilding care statistics: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private void checkpoint() {
+        if (changed.isEmpty()) {
+            return;
+        }
+        try {
+            plantRepository.saveAdherenceCheckpoint(LocalDateTime.now(), changedStats(), false);
+            changed.clear();
+        } catch (SQLException e) {
+            // Kept as changed, so the next checkpoint retries them
+            System.err.println("Error saving care statistics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Applies every care event from a point in time on, streamed oldest first
+     * @return The number of events read
+     */
+    private int replay(LocalDateTime from, Map<Integer, Plant> plants) throws SQLException {
+        int[] events = new int[1];
+        plantRepository.streamCareEvents(from, event -> {
+            events[0]++;
+            apply(plants.get(event.plantId()), event.eventType(), event.eventDate().toLocalDate());
+        });
+        return events[0];
+    }
+
+    /**
+     * @return Every plant by ID, read in one query so replaying needs no lookups per event
+     */
+    private Map<Integer, Plant> loadPlants() throws SQLException {
+        Map<Integer, Plant> plants = new HashMap<>();
+        for (Plant plant : plantRepository.getAllPlants()) {
+            plants.put(plant.getId(), plant);
+        }
+        return plants;
+    }
+
+    /**
+     * Counts one care event of a plant
+     * @param plant The plant, or null if it has been deleted
+     * @param eventType The type of event; initial setup is the baseline of both care types
+     * @param date The date of the event
+     */
+    private void apply(Plant plant, String eventType, LocalDate date) {
+        if (plant == null) {
+            return;
+        }
+        setLocation(plant);
+
+        if ("Initial Setup".equals(eventType)) {
+            for (String careType : CARE_TYPES) {
+                Key key = new Key(plant.getId(), careType);
+                if (!byPlant.containsKey(key)) {
+                    put(key, AdherenceStats.startingAt(plant.getId(), careType, date));
+                }
+            }
+        } else if (CARE_TYPES.contains(eventType)) {
+            Key key = new Key(plant.getId(), eventType);
+            AdherenceStats current = byPlant.get(key);
+            if (current == null) {
+                // Without a known baseline the first care only starts the count
+                put(key, AdherenceStats.startingAt(plant.getId(), eventType, date));
+            } else {
+                int frequency = "Watering".equals(eventType) ?
+                        plant.getWateringFrequency() : plant.getFertilizingFrequency();
+                AdherenceStats updated = current.withCare(date, frequency);
+                if (updated != current) {
+                    put(key, updated);
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts a compacted month of a plant's care. A rollup keeps only the number of events and the
+     * first and last of them, so the events are taken as evenly spaced between those two dates.
+     * This is an approximation: early and late intervals inside the month average out, and several
+     * events on one day are spread into intervals that never happened. The first and last care
+     * dates, and so the intervals into and out of the month, are exact.
+     * @param plant The plant, or null if it has been deleted
+     * @param summary The month's rollup
+     */
+    private void applySummary(Plant plant, CareSummary summary) {
+        LocalDate first = summary.firstEvent().toLocalDate();
+        long spanDays = ChronoUnit.DAYS.between(first, summary.lastEvent().toLocalDate());
+        int count = summary.eventCount();
+        for (int i = 0; i < count; i++) {
+            long offset = count == 1 ? 0 : Math.round(spanDays * i / (double) (count - 1));
+            apply(plant, summary.eventType(), first.plusDays(offset));
+        }
+    }
+
+    /**
+     * Stores a plant's stats and moves the location totals by the difference
+     */
+    private void put(Key key, AdherenceStats stats) {
+        AdherenceStats previous = byPlant.put(key, stats);
+        changed.add(key);
+
+        LocationKey locationKey = new LocationKey(locationOf(key.plantId()), key.careType());
+        LocationAdherence total = byLocation.get(locationKey);
+        if (total == null) {
+            total = new LocationAdherence(locationKey.location(), key.careType(), 0, 0, 0, 0, 0);
+        }
+        byLocation.put(locationKey, new LocationAdherence(total.location(), total.careType(),
+                total.plants() + (previous == null ? 1 : 0),
+                total.intervals() + stats.intervals() - (previous == null ? 0 : previous.intervals()),
+                total.onTime() + stats.onTime() - (previous == null ? 0 : previous.onTime()),
+                total.latenessDays() + stats.latenessDays() - (previous == null ? 0 : previous.latenessDays()),
+                Math.max(total.longestStreak(), stats.longestStreak())));
+    }
+
+    /**
+     * Takes a plant's stats out of a location's totals.
+     * Sums are adjusted directly; the longest streak is recomputed from the location's remaining plants.
+     */
+    private void removeFromLocation(String location, AdherenceStats stats) {
+        LocationKey locationKey = new LocationKey(Objects.requireNonNullElse(location, ""), stats.careType());
+        LocationAdherence total = byLocation.get(locationKey);
+        if (total == null) {
+            return;
+        }
+        if (total.plants() <= 1) {
+            byLocation.remove(locationKey);
+            return;
+        }
+
+        int longestStreak = 0;
+        if (stats.longestStreak() >= total.longestStreak()) {
+            for (AdherenceStats other : byPlant.values()) {
+                if (other.careType().equals(stats.careType()) && other.plantId() != stats.plantId()
+                        && locationKey.location().equals(locationOf(other.plantId()))) {
+                    longestStreak = Math.max(longestStreak, other.longestStreak());
+                }
+            }
+        } else {
+            longestStreak = total.longestStreak();
+        }
+        byLocation.put(locationKey, new LocationAdherence(total.location(), total.careType(), total.plants() - 1,
+                total.intervals() - stats.intervals(), total.onTime() - stats.onTime(),
+                total.latenessDays() - stats.latenessDays(), longestStreak));
+    }
+
+    /**
+     * Records the plant's current location, moving its stats to the new location's totals if it changed
+     */
+    private void setLocation(Plant plant) {
+        String location = Objects.requireNonNullElse(plant.getLocation(), "");
+        String previous = locations.get(plant.getId());
+        if (location.equals(previous)) {
+            return;
+        }
+
+        List<Key> moved = new ArrayList<>();
+        if (previous != null) {
+            for (String careType : CARE_TYPES) {
+                Key key = new Key(plant.getId(), careType);
+                AdherenceStats stats = byPlant.remove(key);
+                if (stats != null) {
+                    removeFromLocation(previous, stats);
+                    byPlant.put(key, stats);
+                    moved.add(key);
+                }
+            }
+        }
+
+        locations.put(plant.getId(), location);
+        for (Key key : moved) {
+            // Re-added as new to the location's totals
+            put(key, byPlant.remove(key));
+        }
+    }
+
+    private String locationOf(int plantId) {
+        return Objects.requireNonNullElse(locations.get(plantId), "");
+    }
+
+    private List<AdherenceStats> changedStats() {
+        List<AdherenceStats> stats = new ArrayList<>(changed.size());
+        for (Key key : changed) {
+            AdherenceStats current = byPlant.get(key);
+            if (current != null) {
+                stats.add(current);
+            }
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.plantbuddy;
+
+import javafx.util.Callback;
+import org.example.plantbuddy.dao.PlantRepository;
+
+import java.lang.reflect.Constructor;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Creates FXML controllers, handing shared services to any controller whose constructor takes them.
+ * Set it on every FXMLLoader with {@code loader.setControllerFactory(...)}.
+ */
+public class ControllerFactory implements Callback<Class<?>, Object> {
+    private final Map<Class<?>, Object> services = new LinkedHashMap<>();
+
+    public ControllerFactory(PlantRepository plantRepository, DataAccessExecutor dataAccessExecutor) {
+        services.put(PlantRepository.class, plantRepository);
+        services.put(DataAccessExecutor.class, dataAccessExecutor);
+    }
+
+    public PlantRepository getPlantRepository() {
+        return (PlantRepository) services.get(PlantRepository.class);
+    }
+
+    public DataAccessExecutor getDataAccessExecutor() {
+        return (DataAccessExecutor) services.get(DataAccessExecutor.class);
+    }
+
+    /**
+     * Makes another service available to controller constructors
+     * @param type The constructor parameter type the service is injected for
+     * @param service The service
+     */
+    public <T> void register(Class<T> type, T service) {
+        services.put(type, service);
+    }
+
+    @Override
+    public Object call(Class<?> type) {
+        try {
+            // Use the first public constructor whose parameters are all known services
+            for (Constructor<?> constructor : type.getConstructors()) {
+                Object[] arguments = resolve(constructor.getParameterTypes());
+                if (arguments != null) {
+                    return constructor.newInstance(arguments);
+                }
+            }
+            return type.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create controller " + type.getName(), e);
+        }
+    }
+
+    /**
+     * @return The services for the given parameter types, or null if any is unknown
+     */
+    private Object[] resolve(Class<?>[] parameters) {
+        Object[] arguments = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            Object service = services.get(parameters[i]);
+            if (service == null) {
+                return null;
+            }
+            arguments[i] = service;
+        }
+        return arguments;
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.plantbuddy;
+
+import javafx.concurrent.Task;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs data access off the JavaFX Application Thread.
+ * Each call gets its own virtual thread, so a slow database blocks that thread only;
+ * results and errors are delivered back on the FX thread through the returned {@link Task}.
+ */
+public class DataAccessExecutor {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Runs work in the background
+     * @param work The blocking work, e.g. a repository call
+     * @param onSuccess Receives the result on the FX thread
+     * @param onFailure Receives the error on the FX thread
+     * @return The running task, which can be cancelled to discard its result
+     */
+    public <T> Task<T> submit(Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return work.call();
+            }
+        };
+        // Handlers are attached before the task starts so no completion can be missed
+        task.setOnSucceeded(event -> onSuccess.accept(task.getValue()));
+        task.setOnFailed(event -> onFailure.accept(task.getException()));
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Stops accepting work and waits briefly for tasks already running, called when the application exits
+     * before the repository and the connection pool are closed, so a save or a care action in progress
+     * commits rather than failing against a closed pool
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                System.err.println("Data access still running at shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,28 +1,114 @@
 package org.example.plantbuddy;
 
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Scene;
+import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
+import org.example.plantbuddy.dao.InMemoryPlantRepository;
+import org.example.plantbuddy.dao.PlantDAO;
+import org.example.plantbuddy.dao.PlantRepository;
+import org.example.plantbuddy.dao.SchemaMigrator;
+import org.example.plantbuddy.dao.StatementRegistry;
+import org.example.plantbuddy.util.DatabaseUtil;
+import org.example.plantbuddy.util.ImageVariants;
 
-import java.io.IOException;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class HelloApplication extends Application {
+    private final StartupPipeline startup = new StartupPipeline();
+    private PlantRepository plantRepository;
+    private DataAccessExecutor dataAccessExecutor;
+    private ReminderScheduler reminderScheduler;
+    private CareEventCompactor careEventCompactor;
+    private CareStatistics careStatistics;
+    private boolean jdbcEngine;
+
     @Override
-    public void start(Stage stage) throws IOException {
-        FXMLLoader fxmlLoader = new FXMLLoader(HelloApplication.class.getResource("hello-view.fxml"));
-        Scene scene = new Scene(fxmlLoader.load());
-       String css = this.getClass().getResource("styles.css").toExternalForm();
-        scene.getStylesheets().add(css);
+    public void init() throws Exception {
+        // Only cheap setup here; anything slow runs after the window is up
+        startup.time("configuration", () -> {
+            plantRepository = createPlantRepository();
+            dataAccessExecutor = new DataAccessExecutor();
+            reminderScheduler = new ReminderScheduler(plantRepository);
+            careEventCompactor = new CareEventCompactor(plantRepository);
+            careStatistics = new CareStatistics(plantRepository);
+        });
+    }
+
+    /**
+     * Creates the repository selected by db.engine in application.properties:
+     * "jdbc" (the default) for MySQL or "memory" for the in-memory engine.
+     * No connection is opened here; see {@link #warmUpDatabase()}.
+     * @return The repository shared by all controllers
+     */
+    private PlantRepository createPlantRepository() {
+        String engine = DatabaseUtil.getProperty("db.engine", "jdbc");
+        if (engine.equalsIgnoreCase("memory")) {
+            System.out.println("Using in-memory plant repository; data is not persisted");
+            return new InMemoryPlantRepository();
+        }
+
+        jdbcEngine = true;
+        return new PlantDAO();
+    }
+
+    /**
+     * Opens the pooled connections and migrates the schema, called on a background thread during startup
+     * @throws SQLException If the schema cannot be migrated
+     */
+    private void warmUpDatabase() throws SQLException {
+        if (jdbcEngine) {
+            DatabaseUtil.warmUp();
+            SchemaMigrator.migrate();
+        }
+    }
+
+    @Override
+    public void start(Stage stage) throws Exception {
+        // Screens are loaded once and swapped in and out of a single scene
+        ControllerFactory controllerFactory = new ControllerFactory(plantRepository, dataAccessExecutor);
+        controllerFactory.register(CareStatistics.class, careStatistics);
+        ViewManager viewManager = ViewManager.create(stage, controllerFactory);
+        long shellStart = System.nanoTime();
+        HelloController dashboard = viewManager.show(ViewManager.View.DASHBOARD, HelloController.class);
+        startup.record("dashboard shell", shellStart);
         Image icon = new Image("logo.png");
         stage.getIcons().add(icon);
         stage.setTitle("Plant Buddy!");
         stage.setResizable(false);
-        stage.setScene(scene);
         stage.show();
+        startup.markFirstPaint(stage.getScene());
+
+        // The empty dashboard is on screen; the database and the photo manifest warm up in parallel
+        CompletableFuture<Void> database = startup.runAsync("database warm-up", this::warmUpDatabase);
+        CompletableFuture<Void> images = startup.runAsync("image manifest", ImageVariants::warmUp);
+
+        // The first page, the reminders, compaction and statistics need the migrated schema;
+        // the other screens are preloaded once the first page is shown
+        database.whenComplete((ignored, error) -> {
+            if (error != null) {
+                // Without the schema every query would fail, so none of them are started;
+                // the pipeline has already logged the failure
+                Platform.runLater(() -> showDatabaseError(error));
+                return;
+            }
+            reminderScheduler.start();
+            // Compaction deletes old care events, so it waits until the statistics have read them
+            careStatistics.start().thenRun(careEventCompactor::start);
+            Platform.runLater(() -> {
+                long firstPageStart = System.nanoTime();
+                dashboard.refreshPlants(() -> {
+                    startup.record("first page of plants", firstPageStart);
+                    startup.markInteractive();
+                    Platform.runLater(() -> preloadScreens(viewManager, images));
+                });
+            });
+        });
 
         stage.setOnCloseRequest(event -> {
             // Consume the event to prevent immediate exit
@@ -30,11 +116,67 @@ public class HelloApplication extends Application {
 
             // Show confirmation dialog
             if (showConfirmationDialog()) {
+                // Make sure buffered care events reach the database before exiting
+                try {
+                    plantRepository.shutdown();
+                } catch (SQLException e) {
+                    System.err.println("Error writing buffered care events: " + e.getMessage());
+                    e.printStackTrace();
+                }
                 stage.close();
             }
         });
+    }
 
-        stage.show();
+    /**
+     * Loads the screens not shown yet, one per pulse so the dashboard stays responsive,
+     * then writes the startup report
+     */
+    private void preloadScreens(ViewManager viewManager, CompletableFuture<Void> images) {
+        for (ViewManager.View view : new ViewManager.View[]{ViewManager.View.PLANT_DETAIL, ViewManager.View.ADD_PLANT}) {
+            Platform.runLater(() -> {
+                try {
+                    startup.time("preload " + view.name().toLowerCase(), () -> viewManager.preload(view));
+                } catch (Exception e) {
+                    System.err.println("Error preloading " + view + ": " + e.getMessage());
+                }
+            });
+        }
+        Platform.runLater(() -> images.whenComplete((ignored, error) ->
+                startup.writeReport(Paths.get(DatabaseUtil.getProperty("startup.report.path", "startup-report.txt")))));
+    }
+
+    @Override
+    public void stop() {
+        startup.shutdown();
+        reminderScheduler.shutdown();
+        // Both wait for work already running, so it commits before the repository and the pool close
+        careEventCompactor.shutdown();
+        dataAccessExecutor.shutdown();
+        ImageVariants.shutdown();
+        try {
+            plantRepository.shutdown();
+        } catch (SQLException e) {
+            System.err.println("Error writing buffered care events: " + e.getMessage());
+        }
+        // After the buffered events are written, so the checkpoint includes them
+        careStatistics.shutdown();
+        System.out.print(StatementRegistry.report());
+        DatabaseUtil.shutdown();
+    }
+
+    /**
+     * Tells the user the database could not be prepared, so the dashboard stays empty
+     * @param error The failure from connecting or migrating, wrapped by the startup pipeline
+     */
+    private void showDatabaseError(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Database Error");
+        alert.setHeaderText(null);
+        alert.setContentText("Failed to prepare the database: " + cause.getMessage()
+                + "\nCheck the connection settings in application.properties and restart Plant Buddy.");
+        alert.showAndWait();
     }
 
     private boolean showConfirmationDialog() {
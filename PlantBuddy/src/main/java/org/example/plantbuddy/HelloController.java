@@ -1,152 +1,169 @@
 package org.example.plantbuddy;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
 import javafx.geometry.Insets;
-import javafx.scene.Node;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
-import javafx.scene.control.Label;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.input.MouseEvent;
-import javafx.scene.layout.StackPane;
-import javafx.scene.layout.TilePane;
-import javafx.scene.layout.VBox;
-import javafx.stage.Stage;
-import org.example.plantbuddy.dao.PlantDAO;
+import org.controlsfx.control.GridView;
+import org.example.plantbuddy.dao.PlantRepository;
 import org.example.plantbuddy.model.Plant;
+import org.example.plantbuddy.model.Reminder;
 
-import java.io.File;
 import java.io.IOException;
 import java.net.URL;
-import java.sql.SQLException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 import java.util.ResourceBundle;
 
 public class HelloController implements Initializable {
-    private Stage stage;
-    private Scene scene;
-    private Parent root;
-    private PlantDAO plantDAO;
+    // Number of plants fetched per dashboard query
+    private static final int PAGE_SIZE = 60;
+    // Most reminders listed in today's tasks
+    private static final int TODAYS_TASKS_LIMIT = 50;
+
+    private final PlantRepository plantRepository;
+    private final ViewManager viewManager;
+    private final TaskScope tasks;
+    private final CareStatistics careStatistics;
+    private int loadGeneration;
+    // Run once the first page of the current load is on screen
+    private Runnable firstPageListener;
+
+    // Plants shown, ordered by ID; the grid only builds cells for the visible rows
+    private final ObservableList<Plant> plants = FXCollections.observableArrayList();
 
     @FXML
-    private TilePane plantTilePane;
+    private GridView<Plant> plantGrid;
+    @FXML
+    private ProgressIndicator loadingIndicator;
+    @FXML
+    private Button waterAllDueButton;
+    @FXML
+    private Button fertilizeAllDueButton;
+
+    public HelloController(PlantRepository plantRepository, DataAccessExecutor dataAccessExecutor,
+                           ViewManager viewManager, CareStatistics careStatistics) {
+        this.plantRepository = plantRepository;
+        this.viewManager = viewManager;
+        this.tasks = new TaskScope(dataAccessExecutor);
+        this.careStatistics = careStatistics;
+    }
 
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
-        // Initialize the DAO
-        plantDAO = new PlantDAO();
-
-        // Set tile pane properties
-        plantTilePane.setPrefColumns(3); // 3 columns
-        plantTilePane.setHgap(15); // Horizontal gap
-        plantTilePane.setVgap(15); // Vertical gap
-        plantTilePane.setPadding(new Insets(20)); // Padding around the tile pane
-
-        // Load plants from the database and display them
-        loadPlants();
+        // Set grid properties
+        plantGrid.setCellWidth(150);
+        plantGrid.setCellHeight(150);
+        plantGrid.setHorizontalCellSpacing(7.5); // Half of the gap between tiles
+        plantGrid.setVerticalCellSpacing(7.5);
+        plantGrid.setPadding(new Insets(20)); // Padding around the grid
+        plantGrid.setCellFactory(grid -> PlantGridCell.create(this::openPlantDetail, careStatistics));
+        plantGrid.setItems(plants);
+
+        // Show a spinner while pages are being fetched
+        loadingIndicator.visibleProperty().bind(tasks.busyProperty());
+        waterAllDueButton.disableProperty().bind(tasks.busyProperty());
+        fertilizeAllDueButton.disableProperty().bind(tasks.busyProperty());
+
+        // Plants are loaded by refreshPlants, once whoever shows the dashboard knows the database is ready
     }
 
     /**
-     * Loads plants from the database and displays them in the UI
+     * Loads plants from the database and displays them in the UI.
+     * Plants are fetched one page at a time so the first tiles appear after a single query,
+     * and each page is merged into what is already shown so unchanged tiles are left alone.
      */
     private void loadPlants() {
-        try {
-            // Clear any existing plants
-            plantTilePane.getChildren().clear();
-
-            // Get plants from database
-            List<Plant> plants = plantDAO.getAllPlants();
-
-            // Display plants in tile pane
-            for (Plant plant : plants) {
-                plantTilePane.getChildren().add(createPlantTile(plant));
-            }
-
-            System.out.println("Loaded " + plants.size() + " plants from database");
-
-        } catch (SQLException e) {
-            System.err.println("Error loading plants: " + e.getMessage());
-            e.printStackTrace();
-        }
+        // Any page still queued or running from an earlier load is now stale; bulk care keeps running
+        tasks.cancelAll();
+        loadGeneration++;
+        loadNextPage(loadGeneration, 0, 0);
     }
 
     /**
-     * Creates a tile representing a plant
-     * @param plant The plant to create a tile for
-     * @return A StackPane containing the plant image and name
+     * Fetches the page of plants after the given ID in the background, merges it into the grid,
+     * then requests the next page so the UI renders between pages
+     * @param generation The load this page belongs to
+     * @param lastId The ID of the last plant of the previous page
+     * @param position The index in the grid where this page starts
      */
-    private StackPane createPlantTile(Plant plant) {
-        // Create a stack pane as the container
-        StackPane tileContainer = new StackPane();
-        tileContainer.setPrefSize(150, 150);
-        tileContainer.getStyleClass().add("plant-tile");
-
-        // Set user data for the plant ID (used when tile is clicked)
-        tileContainer.setUserData(plant.getId());
-
-        // Create a VBox to hold image and label
-        VBox content = new VBox();
-        content.setAlignment(javafx.geometry.Pos.CENTER);
-        content.setSpacing(5);
-
-        // Create image view
-        ImageView imageView = new ImageView();
-        imageView.setFitWidth(100);
-        imageView.setFitHeight(100);
-        imageView.setPreserveRatio(true);
-
-        // Set plant image if available
-        if (plant.getImagepath() != null && !plant.getImagepath().isEmpty()) {
-            try {
-                File imageFile = new File(plant.getImagepath());
-                if (imageFile.exists()) {
-                    Image image = new Image(imageFile.toURI().toString());
-                    imageView.setImage(image);
-                } else {
-                    setDefaultImage(imageView);
-                }
-            } catch (Exception e) {
-                System.err.println("Error loading plant image: " + e.getMessage());
-                setDefaultImage(imageView);
+    private void loadNextPage(int generation, int lastId, int position) {
+        // Get the next page of plants from the database
+        tasks.run(() -> plantRepository.getPlantsAfter(lastId, PAGE_SIZE), page -> {
+            if (generation != loadGeneration) {
+                return;
             }
-        } else {
-            setDefaultImage(imageView);
-        }
 
-        // Create label for plant name
-        Label nameLabel = new Label(plant.getName());
-        nameLabel.getStyleClass().add("plant-name");
+            boolean lastPage = page.size() < PAGE_SIZE;
+            int next = mergePage(page, position, lastPage);
 
-        // Add image and label to VBox
-        content.getChildren().addAll(imageView, nameLabel);
-
-        // Add VBox to StackPane
-        tileContainer.getChildren().add(content);
-
-        // Add click event to navigate to plant detail view
-        tileContainer.setOnMouseClicked(event -> openPlantDetail(event, plant.getId()));
+            if (position == 0 && firstPageListener != null) {
+                Runnable listener = firstPageListener;
+                firstPageListener = null;
+                listener.run();
+            }
 
-        return tileContainer;
+            if (!lastPage) {
+                loadNextPage(generation, page.get(page.size() - 1).getId(), next);
+            } else {
+                System.out.println("Loaded " + plants.size() + " plants from database");
+            }
+        }, error -> {
+            System.err.println("Error loading plants: " + error.getMessage());
+            error.printStackTrace();
+        });
     }
 
     /**
-     * Sets a default image for the plant tile when no image is available
-     * @param imageView The ImageView to set the default image for
+     * Diffs a page against the plants shown, walking both in ID order.
+     * Deleted plants are removed, new ones inserted and changed ones replaced; a plant whose
+     * updated-at marker is unchanged keeps its instance, so its tile and decoded image are reused.
+     * @param page The page, ordered by ID
+     * @param position The index in the grid where the page starts
+     * @param lastPage True if no plants follow this page
+     * @return The index in the grid where the next page starts
      */
-    private void setDefaultImage(ImageView imageView) {
-        try {
-            // Try to load a placeholder image
-            Image placeholderImage = new Image(getClass().getResourceAsStream("/placeholder_plant.png"));
-            if (placeholderImage != null && !placeholderImage.isError()) {
-                imageView.setImage(placeholderImage);
+    private int mergePage(List<Plant> page, int position, boolean lastPage) {
+        int index = position;
+        for (int i = 0; i < page.size(); i++) {
+            Plant incoming = page.get(i);
+
+            // Shown plants with a smaller ID were not returned again, so they have been deleted
+            while (index < plants.size() && plants.get(index).getId() < incoming.getId()) {
+                plants.remove(index);
             }
-        } catch (Exception e) {
-            System.err.println("Error loading placeholder image: " + e.getMessage());
+
+            if (index == plants.size()) {
+                // Nothing left to compare against, e.g. on the first load: append the rest at once
+                plants.addAll(page.subList(i, page.size()));
+                return plants.size();
+            }
+
+            Plant shown = plants.get(index);
+            if (shown.getId() == incoming.getId()) {
+                if (!Objects.equals(shown.getUpdatedAt(), incoming.getUpdatedAt())) {
+                    // Patch only this tile
+                    plants.set(index, incoming);
+                }
+            } else {
+                plants.add(index, incoming);
+            }
+            index++;
+        }
+
+        if (lastPage && index < plants.size()) {
+            // Plants after the last one returned have been deleted
+            plants.remove(index, plants.size());
         }
+        return index;
     }
 
     /**
@@ -155,28 +172,14 @@ public class HelloController implements Initializable {
      * @param plantId The ID of the plant to display details for
      */
     private void openPlantDetail(MouseEvent event, int plantId) {
-        try {
-            // Load the plant_detail.fxml file
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("plant_detail.fxml"));
-            root = loader.load();
+        // Pages still loading would only be added to a scene that is going away
+        tasks.cancelAll();
 
-            // Get the controller and set the plant ID
-            plant_detailController controller = loader.getController();
+        try {
+            // Show the detail screen and bind it to the selected plant
+            plant_detailController controller = viewManager.show(ViewManager.View.PLANT_DETAIL,
+                    plant_detailController.class);
             controller.setPlantId(plantId);
-
-            // Get the stage
-            stage = (Stage)((Node)event.getSource()).getScene().getWindow();
-
-            // Create a new scene with the loaded FXML
-            scene = new Scene(root);
-
-            // Add CSS to the scene
-            String css = this.getClass().getResource("styles.css").toExternalForm();
-            scene.getStylesheets().add(css);
-
-            // Set the scene on the stage and show it
-            stage.setScene(scene);
-            stage.show();
         } catch (IOException e) {
             System.err.println("Error loading plant_detail.fxml: " + e.getMessage());
             e.printStackTrace();
@@ -185,24 +188,12 @@ public class HelloController implements Initializable {
 
     @FXML
     public void addplant(ActionEvent event) throws IOException {
-        try {
-            // Load the add_plant.fxml file
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("add_plant.fxml"));
-            root = loader.load();
-
-            // Get the stage from the event source
-            stage = (Stage)((Node)event.getSource()).getScene().getWindow();
-
-            // Create a new scene with the loaded FXML
-            scene = new Scene(root);
-
-            // Add CSS to the scene
-            String css = this.getClass().getResource("styles.css").toExternalForm();
-            scene.getStylesheets().add(css);
+        tasks.cancelAll();
 
-            // Set the scene on the stage and show it
-            stage.setScene(scene);
-            stage.show();
+        try {
+            // Show the add plant screen with an empty form
+            addplantController controller = viewManager.show(ViewManager.View.ADD_PLANT, addplantController.class);
+            controller.resetForm();
         } catch (IOException e) {
             System.err.println("Error loading add_plant.fxml: " + e.getMessage());
             e.printStackTrace();
@@ -210,10 +201,116 @@ public class HelloController implements Initializable {
         }
     }
 
+    @FXML
+    public void waterAllDue(ActionEvent event) {
+        recordCareForDuePlants("Watering", "watered");
+    }
+
+    @FXML
+    public void fertilizeAllDue(ActionEvent event) {
+        recordCareForDuePlants("Fertilizing", "fertilized");
+    }
+
+    /**
+     * Records care for every plant due for it in one bulk operation, after asking for confirmation
+     * @param careType "Watering" or "Fertilizing"
+     * @param verb How the care is described to the user, e.g. "watered"
+     */
+    private void recordCareForDuePlants(String careType, String verb) {
+        Alert confirmation = new Alert(Alert.AlertType.CONFIRMATION);
+        confirmation.setTitle("Confirm " + careType);
+        confirmation.setHeaderText(null);
+        confirmation.setContentText("Mark every plant due for " + careType.toLowerCase() + " as " + verb + " today?");
+        if (confirmation.showAndWait().filter(response -> response == ButtonType.OK).isEmpty()) {
+            return;
+        }
+
+        // A write: reloading the dashboard cancels page loads but never this
+        tasks.runWrite(() -> plantRepository.recordCareForDuePlants(careType), statuses -> {
+            Alert alert = new Alert(Alert.AlertType.INFORMATION);
+            alert.setTitle(careType + " Recorded");
+            alert.setHeaderText(null);
+            alert.setContentText(statuses.isEmpty() ? "No plants are due for " + careType.toLowerCase() + "."
+                    : statuses.size() + (statuses.size() == 1 ? " plant" : " plants") + " " + verb + ".");
+            alert.showAndWait();
+
+            // Cared-for plants have a new updated-at marker, so only their tiles are patched
+            refreshPlants();
+        }, error -> {
+            Alert alert = new Alert(Alert.AlertType.ERROR);
+            alert.setTitle("Database Error");
+            alert.setHeaderText(null);
+            alert.setContentText("Failed to record " + careType.toLowerCase() + ": " + error.getMessage());
+            alert.showAndWait();
+            error.printStackTrace();
+        });
+    }
+
+    /**
+     * Lists the care due today, overdue care included, from one query across all plants
+     * @param event The mouse event
+     */
+    @FXML
+    public void showTodaysTasks(MouseEvent event) {
+        tasks.run(() -> plantRepository.getDueReminders(LocalDate.EPOCH, LocalDate.now(), TODAYS_TASKS_LIMIT),
+                reminders -> {
+                    StringBuilder text = new StringBuilder();
+                    for (Reminder reminder : reminders) {
+                        text.append(reminder.careType()).append(" - ").append(plantName(reminder.plantId()));
+                        if (reminder.dueDate().isBefore(LocalDate.now())) {
+                            text.append(" (due ").append(reminder.dueDate()).append(')');
+                        }
+                        text.append('\n');
+                    }
+                    if (reminders.size() == TODAYS_TASKS_LIMIT) {
+                        text.append("...\n");
+                    }
+
+                    Alert alert = new Alert(Alert.AlertType.INFORMATION);
+                    alert.setTitle("Today's Tasks");
+                    alert.setHeaderText(reminders.isEmpty() ? "Nothing is due today" : null);
+                    alert.setContentText(text.toString().trim());
+                    alert.showAndWait();
+                }, error -> {
+                    System.err.println("Error loading due reminders: " + error.getMessage());
+                    error.printStackTrace();
+                });
+    }
+
+    /**
+     * @return The name of a plant on the dashboard, or its ID if it is not loaded yet
+     */
+    private String plantName(int plantId) {
+        // The plants shown are ordered by ID
+        int low = 0;
+        int high = plants.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Plant plant = plants.get(middle);
+            if (plant.getId() < plantId) {
+                low = middle + 1;
+            } else if (plant.getId() > plantId) {
+                high = middle - 1;
+            } else {
+                return plant.getName();
+            }
+        }
+        return "plant #" + plantId;
+    }
+
     /**
      * Refreshes the plant list, called after adding or updating a plant
      */
     public void refreshPlants() {
+        refreshPlants(null);
+    }
+
+    /**
+     * Refreshes the plant list and reports when the first page is on screen
+     * @param onFirstPage Run on the FX thread once the first page is shown, may be null
+     */
+    public void refreshPlants(Runnable onFirstPage) {
+        firstPageListener = onFirstPage;
         loadPlants();
     }
 }
\ No newline at end of file
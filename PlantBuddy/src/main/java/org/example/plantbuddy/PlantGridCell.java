@@ -0,0 +1,121 @@
+package org.example.plantbuddy;
+
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import org.controlsfx.control.GridCell;
+import org.example.plantbuddy.model.AdherenceStats;
+import org.example.plantbuddy.model.Plant;
+import org.example.plantbuddy.util.ImageService;
+
+import java.util.function.BiConsumer;
+
+/**
+ * One tile of the dashboard grid.
+ * The GridView only creates cells for the visible rows and reuses them while scrolling,
+ * so the tile's nodes are built once here and {@link #updateItem} just rebinds them to another plant.
+ */
+public class PlantGridCell extends GridCell<Plant> {
+    private final StackPane tileContainer = new StackPane();
+    private final ImageView imageView = new ImageView();
+    private final Label nameLabel = new Label();
+    private final Tooltip adherenceTooltip = new Tooltip();
+    private Plant shownPlant;
+
+    /**
+     * Creates a tile with its click and tooltip handlers.
+     * The handlers read the cell's current item, so they are attached once the cell is fully constructed.
+     * @param onOpen Called with the click and the plant ID when the tile is clicked
+     * @param careStatistics The adherence statistics shown in the tile's tooltip
+     * @return The new cell
+     */
+    public static PlantGridCell create(BiConsumer<MouseEvent, Integer> onOpen, CareStatistics careStatistics) {
+        PlantGridCell cell = new PlantGridCell();
+        cell.attachHandlers(onOpen, careStatistics);
+        return cell;
+    }
+
+    private PlantGridCell() {
+        // Create a stack pane as the container
+        tileContainer.setPrefSize(150, 150);
+        tileContainer.getStyleClass().add("plant-tile");
+
+        // Create a VBox to hold image and label
+        VBox content = new VBox();
+        content.setAlignment(Pos.CENTER);
+        content.setSpacing(5);
+
+        // Configure image view
+        imageView.setFitWidth(100);
+        imageView.setFitHeight(100);
+        imageView.setPreserveRatio(true);
+
+        nameLabel.getStyleClass().add("plant-name");
+
+        // Add image and label to VBox, and VBox to StackPane
+        content.getChildren().addAll(imageView, nameLabel);
+        tileContainer.getChildren().add(content);
+    }
+
+    private void attachHandlers(BiConsumer<MouseEvent, Integer> onOpen, CareStatistics careStatistics) {
+        // Navigate to whichever plant the cell currently shows
+        tileContainer.setOnMouseClicked(event -> {
+            Plant plant = getItem();
+            if (plant != null) {
+                onOpen.accept(event, plant.getId());
+            }
+        });
+
+        // Filled in when shown, so scrolling never looks up statistics for tiles nobody hovers
+        adherenceTooltip.setOnShowing(event -> {
+            Plant plant = getItem();
+            if (plant != null) {
+                adherenceTooltip.setText(describe(careStatistics.getPlantStats(plant.getId(), "Watering")));
+            }
+        });
+        Tooltip.install(tileContainer, adherenceTooltip);
+    }
+
+    /**
+     * @param stats The plant's watering adherence, may be null
+     * @return A one-line summary for the tooltip
+     */
+    private static String describe(AdherenceStats stats) {
+        if (stats == null || stats.intervals() == 0) {
+            return "Watering: no care intervals yet";
+        }
+        return String.format("Watering: %.0f%% on time, %.1f days late on average, longest streak %d",
+                stats.onTimeRate() * 100, stats.averageLatenessDays(), stats.longestStreak());
+    }
+
+    @Override
+    protected void updateItem(Plant plant, boolean empty) {
+        super.updateItem(plant, empty);
+
+        if (empty || plant == null) {
+            shownPlant = null;
+            imageView.setImage(null);
+            setGraphic(null);
+            return;
+        }
+
+        // Refreshes keep unchanged plants as the same instance, so there is nothing to rebind
+        if (plant == shownPlant) {
+            return;
+        }
+        shownPlant = plant;
+
+        // Set user data for the plant ID
+        tileContainer.setUserData(plant.getId());
+        nameLabel.setText(plant.getName());
+
+        // Decoded at tile size in the background and shared with every other view of the photo
+        ImageService.show(imageView, plant.getImagepath(), 100, 100);
+
+        setGraphic(tileContainer);
+    }
+}
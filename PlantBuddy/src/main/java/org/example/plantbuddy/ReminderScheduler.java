@@ -0,0 +1,403 @@
+package org.example.plantbuddy;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.util.Duration;
+import org.controlsfx.control.Notifications;
+import org.example.plantbuddy.dao.PlantRepository;
+import org.example.plantbuddy.dao.ReminderListener;
+import org.example.plantbuddy.model.Plant;
+import org.example.plantbuddy.model.Reminder;
+import org.example.plantbuddy.util.DatabaseUtil;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Shows a notification when plant care falls due.
+ * Pending reminders are loaded once into a min-heap ordered by due time; a single thread sleeps until
+ * the earliest one is due, so the database is never polled. The heap is kept current through the
+ * repository's {@link ReminderListener}: creating, rescheduling or removing a reminder costs O(log n).
+ * Reminders fall due at reminder.notifyTime on their due date; overdue ones are shown right after startup.
+ */
+public class ReminderScheduler implements ReminderListener {
+    // Reminders due together are listed by name up to this many, otherwise summarised per care type
+    private static final int MAX_LISTED = 3;
+    // Upper bound on one sleep, so a changed wall clock or a resumed laptop is noticed
+    private static final long MAX_WAIT_MILLIS = 60_000;
+
+    private final PlantRepository plantRepository;
+    private final LocalTime notifyTime;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition headChanged = lock.newCondition();
+    private final DueQueue queue = new DueQueue();
+    // Guarded by lock: plants whose reminders were removed while the pending reminders were loading,
+    // or null when no load is running
+    private Set<Integer> removedWhileLoading;
+    private Thread thread;
+    private volatile boolean running;
+    private Image bell;
+
+    public ReminderScheduler(PlantRepository plantRepository) {
+        this.plantRepository = plantRepository;
+        this.notifyTime = LocalTime.parse(DatabaseUtil.getProperty("reminder.notifyTime", "09:00"));
+    }
+
+    /**
+     * Loads the pending reminders and starts waiting for the first one, called once the schema is ready
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        lock.lock();
+        try {
+            removedWhileLoading = new HashSet<>();
+        } finally {
+            lock.unlock();
+        }
+        // Listen before loading so no change made during the load is lost
+        plantRepository.addReminderListener(this);
+        thread = Thread.ofVirtual().name("reminder-scheduler").start(() -> {
+            loadPendingReminders();
+            runLoop();
+        });
+    }
+
+    /**
+     * Stops the scheduler thread, called when the application exits
+     */
+    public synchronized void shutdown() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public void reminderScheduled(int plantId, String careType, LocalDate dueDate) {
+        lock.lock();
+        try {
+            if (queue.schedule(plantId, careType, dueMillis(dueDate), true)) {
+                headChanged.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remindersRemoved(int plantId) {
+        lock.lock();
+        try {
+            if (removedWhileLoading != null) {
+                // The load may have read this plant's rows before it was removed
+                removedWhileLoading.add(plantId);
+            }
+            if (queue.removePlant(plantId)) {
+                headChanged.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of reminders waiting to fall due
+     */
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void loadPendingReminders() {
+        try {
+            long start = System.nanoTime();
+            List<Reminder> pending = plantRepository.getPendingReminders();
+            lock.lock();
+            try {
+                for (Reminder reminder : pending) {
+                    // A plant removed while loading must not come back from a stale row
+                    if (removedWhileLoading.contains(reminder.plantId())) {
+                        continue;
+                    }
+                    // A change reported while loading is newer than the loaded row, so it is kept
+                    queue.schedule(reminder.plantId(), reminder.careType(),
+                            dueMillis(reminder.dueDate()), false);
+                }
+            } finally {
+                lock.unlock();
+            }
+            System.out.println("Scheduled " + pending.size() + " reminders in " +
+                    (System.nanoTime() - start) / 1_000_000 + " ms");
+        } catch (SQLException e) {
+            System.err.println("Error loading reminders: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            lock.lock();
+            try {
+                removedWhileLoading = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                List<DueQueue.Entry> due = awaitDue();
+                if (!due.isEmpty()) {
+                    notifyDue(due);
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sleeps until the earliest reminder is due, then takes it and every other reminder due by then
+     * @return The reminders that fell due, soonest first
+     * @throws InterruptedException If the scheduler is shut down
+     */
+    private List<DueQueue.Entry> awaitDue() throws InterruptedException {
+        lock.lock();
+        try {
+            DueQueue.Entry head = queue.peek();
+            long now = System.currentTimeMillis();
+            if (head == null) {
+                headChanged.await(MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                return List.of();
+            }
+            if (head.dueMillis > now) {
+                headChanged.await(Math.min(head.dueMillis - now, MAX_WAIT_MILLIS), TimeUnit.MILLISECONDS);
+                return List.of();
+            }
+
+            List<DueQueue.Entry> due = new ArrayList<>();
+            while (queue.peek() != null && queue.peek().dueMillis <= now) {
+                due.add(queue.poll());
+            }
+            return due;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Shows one notification for reminders that fell due together, called on the scheduler thread
+     */
+    private void notifyDue(List<DueQueue.Entry> due) {
+        StringBuilder text = new StringBuilder();
+        if (due.size() <= MAX_LISTED) {
+            for (DueQueue.Entry entry : due) {
+                appendLine(text, entry.careType + " due for " + plantName(entry.plantId));
+            }
+        } else {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (DueQueue.Entry entry : due) {
+                counts.merge(entry.careType, 1, Integer::sum);
+            }
+            counts.forEach((careType, count) -> appendLine(text, count + " plants need " + careType));
+        }
+
+        String message = text.toString();
+        Platform.runLater(() -> Notifications.create()
+                .title("Plant care due")
+                .text(message)
+                .graphic(new ImageView(getBell()))
+                .hideAfter(Duration.seconds(15))
+                .show());
+    }
+
+    private static void appendLine(StringBuilder text, String line) {
+        if (!text.isEmpty()) {
+            text.append('\n');
+        }
+        text.append(line);
+    }
+
+    private String plantName(int plantId) {
+        try {
+            Plant plant = plantRepository.getPlantById(plantId);
+            if (plant != null) {
+                return plant.getName();
+            }
+        } catch (SQLException e) {
+            System.err.println("Error loading plant for reminder: " + e.getMessage());
+        }
+        return "plant #" + plantId;
+    }
+
+    /**
+     * @return The bell icon, loaded on first use on the FX thread
+     */
+    private Image getBell() {
+        if (bell == null) {
+            bell = new Image("bell.png", 48, 48, true, true);
+        }
+        return bell;
+    }
+
+    private long dueMillis(LocalDate dueDate) {
+        return dueDate.atTime(notifyTime).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Binary min-heap of reminders by due time, indexed by plant and care type so a reminder
+     * can be rescheduled or removed in O(log n) without searching the heap. Not thread-safe.
+     */
+    private static final class DueQueue {
+
+        private static final class Entry {
+            private final int plantId;
+            private final String careType;
+            private long dueMillis;
+            private int index;
+
+            private Entry(int plantId, String careType, long dueMillis) {
+                this.plantId = plantId;
+                this.careType = careType;
+                this.dueMillis = dueMillis;
+            }
+        }
+
+        private final List<Entry> heap = new ArrayList<>();
+        private final Map<Integer, Map<String, Entry>> byPlant = new HashMap<>();
+
+        int size() {
+            return heap.size();
+        }
+
+        Entry peek() {
+            return heap.isEmpty() ? null : heap.get(0);
+        }
+
+        Entry poll() {
+            Entry head = peek();
+            if (head != null) {
+                remove(head);
+            }
+            return head;
+        }
+
+        /**
+         * Adds a reminder or moves an existing one for the same plant and care type
+         * @param replace Whether an existing reminder is moved; if false it is kept as it is
+         * @return True if the earliest reminder changed
+         */
+        boolean schedule(int plantId, String careType, long dueMillis, boolean replace) {
+            Entry previousHead = peek();
+            Map<String, Entry> entries = byPlant.computeIfAbsent(plantId, id -> new HashMap<>(4));
+            Entry entry = entries.get(careType);
+            if (entry == null) {
+                entry = new Entry(plantId, careType, dueMillis);
+                entry.index = heap.size();
+                heap.add(entry);
+                entries.put(careType, entry);
+                siftUp(entry.index);
+            } else if (replace) {
+                long previousDue = entry.dueMillis;
+                entry.dueMillis = dueMillis;
+                if (dueMillis < previousDue) {
+                    siftUp(entry.index);
+                } else {
+                    siftDown(entry.index);
+                }
+            }
+            return peek() != previousHead || peek() == entry;
+        }
+
+        /**
+         * Removes every reminder of a plant
+         * @return True if the earliest reminder changed
+         */
+        boolean removePlant(int plantId) {
+            Map<String, Entry> entries = byPlant.get(plantId);
+            if (entries == null) {
+                return false;
+            }
+            Entry previousHead = peek();
+            for (Entry entry : new ArrayList<>(entries.values())) {
+                remove(entry);
+            }
+            return peek() != previousHead;
+        }
+
+        private void remove(Entry entry) {
+            Map<String, Entry> entries = byPlant.get(entry.plantId);
+            entries.remove(entry.careType);
+            if (entries.isEmpty()) {
+                byPlant.remove(entry.plantId);
+            }
+
+            // Move the last entry into the gap and restore the heap order from there
+            int index = entry.index;
+            Entry last = heap.remove(heap.size() - 1);
+            if (last != entry) {
+                heap.set(index, last);
+                last.index = index;
+                siftUp(index);
+                siftDown(last.index);
+            }
+        }
+
+        private void siftUp(int index) {
+            Entry entry = heap.get(index);
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                Entry parentEntry = heap.get(parent);
+                if (parentEntry.dueMillis <= entry.dueMillis) {
+                    break;
+                }
+                heap.set(index, parentEntry);
+                parentEntry.index = index;
+                index = parent;
+            }
+            heap.set(index, entry);
+            entry.index = index;
+        }
+
+        private void siftDown(int index) {
+            Entry entry = heap.get(index);
+            int size = heap.size();
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && heap.get(child + 1).dueMillis < heap.get(child).dueMillis) {
+                    child++;
+                }
+                Entry childEntry = heap.get(child);
+                if (entry.dueMillis <= childEntry.dueMillis) {
+                    break;
+                }
+                heap.set(index, childEntry);
+                childEntry.index = index;
+                index = child;
+            }
+            heap.set(index, entry);
+            entry.index = index;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.plantbuddy;
+
+import javafx.scene.Scene;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Times the stages of application startup and runs the independent ones in parallel.
+ * Phases are recorded with the thread they ran on; together with time-to-first-paint
+ * (the first rendered frame) and time-to-interactive (the first page of plants on screen)
+ * they are written to a startup report once startup has finished.
+ */
+public class StartupPipeline {
+
+    /**
+     * A piece of startup work that may fail
+     */
+    @FunctionalInterface
+    public interface Step {
+        void run() throws Exception;
+    }
+
+    /**
+     * A timed phase; times are System.nanoTime values
+     */
+    private record Phase(String name, long startNanos, long endNanos, String thread) {
+    }
+
+    // Startup is measured from JVM start, so class loading and the launcher count too
+    private final long originNanos = System.nanoTime();
+    private final long uptimeAtOriginMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+
+    private final List<Phase> phases = new ArrayList<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile long firstPaintNanos;
+    private volatile long interactiveNanos;
+
+    /**
+     * Runs a phase on the calling thread and records how long it took
+     * @param name The phase name shown in the report
+     * @param step The work
+     * @throws Exception If the work fails; the phase is still recorded
+     */
+    public void time(String name, Step step) throws Exception {
+        long start = System.nanoTime();
+        try {
+            step.run();
+        } finally {
+            record(name, start);
+        }
+    }
+
+    /**
+     * Runs a phase on a background thread. Failures are logged and recorded in the phase name,
+     * and complete the returned future exceptionally so callers can skip work that depends on the phase.
+     * @param name The phase name shown in the report
+     * @param step The work
+     * @return Completes when the phase has finished; exceptionally, with a CompletionException, if it failed
+     */
+    public CompletableFuture<Void> runAsync(String name, Step step) {
+        return CompletableFuture.runAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                step.run();
+                record(name, start);
+            } catch (Exception e) {
+                record(name + " (failed)", start);
+                System.err.println("Startup phase " + name + " failed: " + e.getMessage());
+                e.printStackTrace();
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Records a phase that started earlier and has just finished
+     * @param name The phase name shown in the report
+     * @param startNanos The System.nanoTime value when the phase started
+     */
+    public void record(String name, long startNanos) {
+        Phase phase = new Phase(name, startNanos, System.nanoTime(), Thread.currentThread().getName());
+        synchronized (phases) {
+            phases.add(phase);
+        }
+    }
+
+    /**
+     * Marks first paint at the end of the first layout pulse after the scene is shown
+     * @param scene The scene that was just shown
+     */
+    public void markFirstPaint(Scene scene) {
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            firstPaintNanos = System.nanoTime();
+            scene.removePostLayoutPulseListener(listener[0]);
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
+    }
+
+    /**
+     * Marks the moment the user can start working with the application
+     */
+    public void markInteractive() {
+        if (interactiveNanos == 0) {
+            interactiveNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Writes the startup report in the background
+     * @param path The report file, overwritten on every start
+     */
+    public void writeReport(Path path) {
+        executor.execute(() -> {
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path))) {
+                out.print(formatReport());
+                System.out.println("Startup report written to " + path.toAbsolutePath());
+            } catch (IOException e) {
+                System.err.println("Error writing startup report: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Stops the background threads, called when the application exits
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private String formatReport() {
+        List<Phase> recorded;
+        synchronized (phases) {
+            recorded = new ArrayList<>(phases);
+        }
+        recorded.sort((a, b) -> Long.compare(a.startNanos(), b.startNanos()));
+
+        StringBuilder report = new StringBuilder();
+        report.append("Plant Buddy startup report, ").append(LocalDateTime.now()).append('\n');
+        report.append(String.format("JVM start to first application code: %d ms%n%n", uptimeAtOriginMillis));
+        report.append(String.format("%-28s %10s %10s  %s%n", "phase", "start ms", "took ms", "thread"));
+        for (Phase phase : recorded) {
+            report.append(String.format("%-28s %10d %10d  %s%n", phase.name(), sinceJvmStart(phase.startNanos()),
+                    (phase.endNanos() - phase.startNanos()) / 1_000_000, phase.thread()));
+        }
+        report.append('\n');
+        report.append(String.format("Time to first paint:  %s%n", formatMilestone(firstPaintNanos)));
+        report.append(String.format("Time to interactive:  %s%n", formatMilestone(interactiveNanos)));
+        return report.toString();
+    }
+
+    private String formatMilestone(long nanos) {
+        return nanos == 0 ? "not reached" : sinceJvmStart(nanos) + " ms";
+    }
+
+    /**
+     * @return Milliseconds between JVM start and the given System.nanoTime value
+     */
+    private long sinceJvmStart(long nanos) {
+        return uptimeAtOriginMillis + (nanos - originNanos) / 1_000_000;
+    }
+}
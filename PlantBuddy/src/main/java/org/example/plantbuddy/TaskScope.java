@@ -0,0 +1,100 @@
+package org.example.plantbuddy;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.concurrent.Task;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+/**
+ * Tracks the background tasks started by one screen.
+ * {@link #busyProperty()} drives the screen's loading indicator and {@link #cancelAll()}
+ * drops pending reads when the user navigates away. Writes are never cancelled: cancelling
+ * interrupts the task's thread, which can abort JDBC or file I/O halfway through a save.
+ * Only use it from the FX thread.
+ */
+public class TaskScope {
+    private final DataAccessExecutor executor;
+    private final Set<Task<?>> reads = new HashSet<>();
+    private final Set<Task<?>> writes = new HashSet<>();
+    private final ReadOnlyBooleanWrapper busy = new ReadOnlyBooleanWrapper(false);
+
+    public TaskScope(DataAccessExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Runs a read in the background and tracks it until it completes or is cancelled
+     * @param work The blocking read, e.g. a repository query
+     * @param onSuccess Receives the result on the FX thread, unless the task was cancelled
+     * @param onFailure Receives the error on the FX thread, unless the task was cancelled
+     * @return The running task
+     */
+    public <T> Task<T> run(Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        return track(reads, work, onSuccess, onFailure);
+    }
+
+    /**
+     * Runs a write in the background and tracks it until it completes.
+     * {@link #cancelAll()} leaves it running, so its handlers always run, even after the user
+     * has navigated away; they must check that what they update is still shown.
+     * @param work The blocking write, e.g. saving a plant or recording care
+     * @param onSuccess Receives the result on the FX thread
+     * @param onFailure Receives the error on the FX thread
+     * @return The running task
+     */
+    public <T> Task<T> runWrite(Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        return track(writes, work, onSuccess, onFailure);
+    }
+
+    private <T> Task<T> track(Set<Task<?>> inFlight, Callable<T> work, Consumer<T> onSuccess,
+                              Consumer<Throwable> onFailure) {
+        Task<?>[] self = new Task<?>[1];
+        Task<T> task = executor.submit(work,
+                result -> {
+                    finished(self[0]);
+                    onSuccess.accept(result);
+                },
+                error -> {
+                    finished(self[0]);
+                    onFailure.accept(error);
+                });
+        self[0] = task;
+        task.setOnCancelled(event -> finished(task));
+        inFlight.add(task);
+        busy.set(true);
+        return task;
+    }
+
+    /**
+     * Cancels every tracked read; their success and failure handlers will not run.
+     * Writes keep running and still report their result.
+     */
+    public void cancelAll() {
+        for (Task<?> task : Set.copyOf(reads)) {
+            task.cancel();
+        }
+        reads.clear();
+        updateBusy();
+    }
+
+    /**
+     * @return True while at least one tracked task is running
+     */
+    public ReadOnlyBooleanProperty busyProperty() {
+        return busy.getReadOnlyProperty();
+    }
+
+    private void finished(Task<?> task) {
+        reads.remove(task);
+        writes.remove(task);
+        updateBusy();
+    }
+
+    private void updateBusy() {
+        busy.set(!reads.isEmpty() || !writes.isEmpty());
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.plantbuddy;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Switches the window between the application's screens.
+ * Each FXML file is loaded once; its root node and controller are kept and shown again by swapping
+ * the root of a single Scene, so the stylesheet is parsed once and returning to a screen is just a root swap.
+ * Controllers get the manager injected by {@link ControllerFactory} and rebind to new data when shown.
+ */
+public class ViewManager {
+
+    /**
+     * The application's screens
+     */
+    public enum View {
+        DASHBOARD("hello-view.fxml"),
+        PLANT_DETAIL("plant_detail.fxml"),
+        ADD_PLANT("add_plant.fxml");
+
+        private final String fxml;
+
+        View(String fxml) {
+            this.fxml = fxml;
+        }
+    }
+
+    /**
+     * A loaded screen
+     */
+    private record LoadedView(Parent root, Object controller) {
+    }
+
+    private final Stage stage;
+    private final ControllerFactory controllerFactory;
+    private final Map<View, LoadedView> views = new EnumMap<>(View.class);
+    private Scene scene;
+
+    /**
+     * Creates the manager and registers it with the controller factory, so controllers can ask for it
+     * @param stage The application window
+     * @param controllerFactory Creates the screens' controllers
+     * @return The new manager
+     */
+    public static ViewManager create(Stage stage, ControllerFactory controllerFactory) {
+        ViewManager viewManager = new ViewManager(stage, controllerFactory);
+        controllerFactory.register(ViewManager.class, viewManager);
+        return viewManager;
+    }
+
+    private ViewManager(Stage stage, ControllerFactory controllerFactory) {
+        this.stage = stage;
+        this.controllerFactory = controllerFactory;
+    }
+
+    /**
+     * Shows a screen, loading it on first use
+     * @param view The screen to show
+     * @param controllerType The type of the screen's controller
+     * @return The screen's controller, to pass it the data to show
+     * @throws IOException If the screen's FXML cannot be loaded
+     */
+    public <T> T show(View view, Class<T> controllerType) throws IOException {
+        LoadedView loaded = load(view);
+
+        if (scene == null) {
+            scene = new Scene(loaded.root());
+            String css = getClass().getResource("styles.css").toExternalForm();
+            scene.getStylesheets().add(css);
+            stage.setScene(scene);
+        } else if (scene.getRoot() != loaded.root()) {
+            scene.setRoot(loaded.root());
+        }
+
+        // Screens have different preferred sizes
+        stage.sizeToScene();
+        return controllerType.cast(loaded.controller());
+    }
+
+    /**
+     * @param view The screen
+     * @return True if the screen is the one currently in the window
+     */
+    public boolean isShowing(View view) {
+        LoadedView loaded = views.get(view);
+        return scene != null && loaded != null && scene.getRoot() == loaded.root();
+    }
+
+    /**
+     * Loads a screen without showing it, so its first use is just a root swap
+     * @param view The screen to load
+     * @throws IOException If the screen's FXML cannot be loaded
+     */
+    public void preload(View view) throws IOException {
+        load(view);
+    }
+
+    private LoadedView load(View view) throws IOException {
+        LoadedView loaded = views.get(view);
+        if (loaded == null) {
+            FXMLLoader loader = new FXMLLoader(getClass().getResource(view.fxml));
+            loader.setControllerFactory(controllerFactory);
+            Parent root = loader.load();
+            loaded = new LoadedView(root, loader.getController());
+            views.put(view, loaded);
+        }
+        return loaded;
+    }
+}
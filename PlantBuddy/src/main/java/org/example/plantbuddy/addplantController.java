@@ -4,36 +4,27 @@ import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
-import javafx.scene.Node;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.stage.FileChooser;
-import javafx.stage.Stage;
 
-import org.example.plantbuddy.dao.PlantDAO;
+import org.example.plantbuddy.dao.PlantRepository;
 import org.example.plantbuddy.model.Plant;
+import org.example.plantbuddy.util.ImageService;
+import org.example.plantbuddy.util.ImageStore;
+import org.example.plantbuddy.util.ImageVariants;
 
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.ResourceBundle;
 
 public class addplantController implements Initializable {
-    private Stage stage;
-    private Scene scene;
-    private Parent root;
-
     @FXML
     private ChoiceBox<String> mylocation;
     @FXML
@@ -61,20 +52,28 @@ public class addplantController implements Initializable {
 
     @FXML
     private Button saveButton;
+    @FXML
+    private ProgressIndicator savingIndicator;
 
     private File selectedImageFile;  // To store the selected image file
-    private PlantDAO plantDAO;
+    private final PlantRepository plantRepository;
+    private final ViewManager viewManager;
+    private final TaskScope tasks;
 
     int waterlevel, fertilizlevel;
 
     private String[] lightneeds = {"Light Direct", "Light Indirect", "Dark Direct", "Dark Indirect"};
     private String[] locations = {"Living Room", "Balcony", "Veranda", "Kitchen"};
 
+    public addplantController(PlantRepository plantRepository, DataAccessExecutor dataAccessExecutor,
+                              ViewManager viewManager) {
+        this.plantRepository = plantRepository;
+        this.viewManager = viewManager;
+        this.tasks = new TaskScope(dataAccessExecutor);
+    }
+
     @Override
     public void initialize(URL url, ResourceBundle rb) {
-        // Initialize DAO
-        plantDAO = new PlantDAO();
-
         // Initialize choice boxes
         mylocation.getItems().addAll(locations);
         mylightneed.getItems().addAll(lightneeds);
@@ -123,17 +122,39 @@ public class addplantController implements Initializable {
 
         // Set a placeholder image
         setPlaceholderImage();
+
+        // Show progress and prevent double submits while a save is running
+        savingIndicator.visibleProperty().bind(tasks.busyProperty());
+        saveButton.disableProperty().bind(tasks.busyProperty());
+    }
+
+    /**
+     * Puts the form back to its defaults; the screen is reused, so this runs every time it is opened
+     */
+    public void resetForm() {
+        plantNameTextField.clear();
+        speciesTextField.clear();
+        notesTextArea.clear();
+        mylocation.setValue(locations[0]);
+        mylightneed.setValue(lightneeds[0]);
+        acquisitionDatePicker.setValue(LocalDate.now());
+
+        // The slider listeners update the labels and levels
+        myw.setValue(7);
+        myf.setValue(30);
+
+        selectedImageFile = null;
+        setPlaceholderImage();
     }
 
     @FXML
     public void back(ActionEvent event) throws IOException {
-        root = FXMLLoader.load(getClass().getResource("hello-view.fxml"));
-        stage = (Stage)((Node)event.getSource()).getScene().getWindow();
-        scene = new Scene(root);
-        String css = this.getClass().getResource("styles.css").toExternalForm();
-        scene.getStylesheets().add(css);
-        stage.setScene(scene);
-        stage.show();
+        // A save still running is a write, so it is never cancelled and still reports its result
+        tasks.cancelAll();
+
+        // Return to the dashboard and refresh the plant list
+        HelloController controller = viewManager.show(ViewManager.View.DASHBOARD, HelloController.class);
+        controller.refreshPlants();
     }
 
     /**
@@ -150,9 +171,8 @@ public class addplantController implements Initializable {
         selectedImageFile = fileChooser.showOpenDialog(chooseImageButton.getScene().getWindow());
 
         if (selectedImageFile != null) {
-            // Display the selected image
-            Image image = new Image(selectedImageFile.toURI().toString());
-            plantImageView.setImage(image);
+            // Display the selected image, decoded at preview size in the background
+            ImageService.show(plantImageView, selectedImageFile.getPath(), 155, 140);
             plantImageView.setFitWidth(155);
             plantImageView.setFitHeight(140);
             plantImageView.setPreserveRatio(true);
@@ -163,18 +183,13 @@ public class addplantController implements Initializable {
      * Sets a placeholder image when no plant image is selected
      */
     private void setPlaceholderImage() {
-        try {
-            // Try to load a placeholder image from resources
-            Image placeholderImage = new Image(getClass().getResourceAsStream("/plant_placeholder.png"));
-            if (placeholderImage != null && !placeholderImage.isError()) {
-                plantImageView.setImage(placeholderImage);
-                plantImageView.setFitWidth(155);
-                plantImageView.setFitHeight(140);
-                plantImageView.setPreserveRatio(true);
-            }
-        } catch (Exception e) {
-            // If the placeholder image can't be loaded, leave the image view empty
-            System.out.println("Could not load placeholder image: " + e.getMessage());
+        // Use the shared placeholder; if it can't be loaded the image view stays empty
+        Image placeholderImage = ImageService.getPlaceholder();
+        if (placeholderImage != null) {
+            plantImageView.setImage(placeholderImage);
+            plantImageView.setFitWidth(155);
+            plantImageView.setFitHeight(140);
+            plantImageView.setPreserveRatio(true);
         }
     }
 
@@ -190,36 +205,24 @@ public class addplantController implements Initializable {
     }
 
     /**
-     * Saves the selected image to the application's image directory
+     * Saves the selected image to the application's image store, called off the FX thread.
+     * A photo that is already stored is reused rather than copied again.
+     * @param selectedImageFile The image to save, may be null
      * @return The path where the image is saved, or null if no image was selected
+     * @throws IOException If the image cannot be copied
      */
-    private String saveImageFile() {
+    private static String saveImageFile(File selectedImageFile) throws IOException {
         if (selectedImageFile == null) {
             return null;
         }
 
-        try {
-            // Create directory for images if it doesn't exist
-            Path imageDir = Paths.get(System.getProperty("user.dir"), "plant_images");
-            if (!Files.exists(imageDir)) {
-                Files.createDirectories(imageDir);
-            }
-
-            // Generate a unique filename based on timestamp and original filename
-            String originalFileName = selectedImageFile.getName();
-            String extension = originalFileName.substring(originalFileName.lastIndexOf('.'));
-            String newFileName = System.currentTimeMillis() + extension;
+        // Stored under the hash of its contents, so concurrent saves cannot collide
+        Path targetPath = ImageStore.ingest(selectedImageFile.toPath());
 
-            // Copy the image file to our application's image directory
-            Path targetPath = imageDir.resolve(newFileName);
-            Files.copy(selectedImageFile.toPath(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+        // Write the tile and detail sized copies without holding up the save
+        ImageVariants.generateAsync(targetPath);
 
-            return targetPath.toString();
-        } catch (IOException e) {
-            showAlert(Alert.AlertType.ERROR, "Error", "Failed to save image: " + e.getMessage());
-            e.printStackTrace();
-            return null;
-        }
+        return targetPath.toString();
     }
 
     @FXML
@@ -228,40 +231,63 @@ public class addplantController implements Initializable {
             return;
         }
 
-        try {
-            // Create plant object
-            Plant plant = new Plant();
-            plant.setName(plantNameTextField.getText().trim());
-            plant.setSpecies(speciesTextField.getText().trim());
-            plant.setLocation(mylocation.getValue());
-            plant.setLightneeds(mylightneed.getValue());
-            plant.setDateAcquired(acquisitionDatePicker.getValue());
-            plant.setWateringFrequency(waterlevel);
-            plant.setFertilizingFrequency(fertilizlevel);
-            plant.setNotes(notesTextArea.getText().trim());
-
-            // Save image if one was selected
-            String imagePath = saveImageFile();
+        // Create plant object from the form while still on the FX thread
+        Plant plant = new Plant();
+        plant.setName(plantNameTextField.getText().trim());
+        plant.setSpecies(speciesTextField.getText().trim());
+        plant.setLocation(mylocation.getValue());
+        plant.setLightneeds(mylightneed.getValue());
+        plant.setDateAcquired(acquisitionDatePicker.getValue());
+        plant.setWateringFrequency(waterlevel);
+        plant.setFertilizingFrequency(fertilizlevel);
+        plant.setNotes(notesTextArea.getText().trim());
+        File imageFile = selectedImageFile;
+
+        // Copy the image and save the plant in the background
+        tasks.runWrite(() -> {
+            String imagePath = saveImageFile(imageFile);
             plant.setImagepath(imagePath);
+            int plantId;
+            try {
+                plantId = plantRepository.addPlant(plant);
+            } catch (SQLException | RuntimeException e) {
+                // The photo just stored stays only if another plant already uses it
+                if (imagePath != null) {
+                    ImageStore.release(imagePath, plantRepository::countImageReferences);
+                }
+                throw e;
+            }
 
-            // Save plant to database
-            int plantId = plantDAO.addPlant(plant);
-
+            // A plant deleted while this one was saved may have released the same photo
+            if (imagePath != null && ImageStore.ensureStored(imageFile.toPath(), imagePath)) {
+                ImageVariants.generateAsync(Path.of(imagePath));
+            }
+            return plantId;
+        }, plantId -> {
             showAlert(Alert.AlertType.INFORMATION, "Success",
                     "Plant added successfully with ID: " + plantId);
 
-            // Return to main view
-            back(event);
-
-        } catch (SQLException e) {
-            showAlert(Alert.AlertType.ERROR, "Database Error",
-                    "Failed to save plant: " + e.getMessage());
-            e.printStackTrace();
-        } catch (IOException e) {
-            showAlert(Alert.AlertType.ERROR, "Navigation Error",
-                    "Failed to navigate back: " + e.getMessage());
-            e.printStackTrace();
-        }
+            // Return to main view, unless the user already left this screen while saving
+            if (!viewManager.isShowing(ViewManager.View.ADD_PLANT)) {
+                return;
+            }
+            try {
+                back(event);
+            } catch (IOException e) {
+                showAlert(Alert.AlertType.ERROR, "Navigation Error",
+                        "Failed to navigate back: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }, error -> {
+            if (error instanceof SQLException) {
+                showAlert(Alert.AlertType.ERROR, "Database Error",
+                        "Failed to save plant: " + error.getMessage());
+            } else {
+                showAlert(Alert.AlertType.ERROR, "Error",
+                        "Failed to save image: " + error.getMessage());
+            }
+            error.printStackTrace();
+        });
     }
 
     /**
@@ -295,4 +321,4 @@ public class addplantController implements Initializable {
 
         return true;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package org.example.plantbuddy.dao;
+
+import java.time.LocalDateTime;
+
+/**
+ * Receives care events from a {@link PlantRepository} as they are recorded,
+ * so statistics over them can be kept up to date without reading care_events again
+ */
+public interface CareEventListener {
+
+    /**
+     * Called when a care event is recorded, including the initial setup event of a new plant
+     * @param plantId The ID of the plant
+     * @param eventType The type of event, e.g. "Watering"
+     * @param eventTime When the care happened
+     */
+    void careRecorded(int plantId, String eventType, LocalDateTime eventTime);
+
+    /**
+     * Called when a plant and with it its care history are deleted
+     * @param plantId The ID of the deleted plant
+     */
+    void plantRemoved(int plantId);
+}
@@ -0,0 +1,245 @@
+package org.example.plantbuddy.dao;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind buffer for care events.
+ * Events are queued in memory and a background thread writes them in batches,
+ * either when a batch fills up or when the oldest queued event has waited for the flush interval.
+ * Events are written in the order they were accepted: a batch that fails stays at the head and is
+ * written again before anything accepted after it, and it is never dropped.
+ */
+public class CareEventWriter {
+
+    /**
+     * A care event that has been accepted but not yet written
+     * @param plantId The ID of the plant
+     * @param eventType The type of event, e.g. Watering
+     * @param notes Any notes about the event
+     * @param eventTime When the care actually happened
+     */
+    public record PendingCareEvent(int plantId, String eventType, String notes, LocalDateTime eventTime) {
+    }
+
+    /**
+     * Writes a batch of events, typically in one transaction
+     */
+    @FunctionalInterface
+    public interface BatchWriter {
+        void write(List<PendingCareEvent> events) throws SQLException;
+    }
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_DELAY_MILLIS = 1000;
+
+    private final BlockingQueue<PendingCareEvent> queue;
+    // One permit per accepted event; the writer thread waits on it without taking anything off the queue,
+    // so an event only ever leaves the queue under writeLock. Permits of events a flush wrote are spare.
+    private final Semaphore available = new Semaphore(0);
+    private final BatchWriter batchWriter;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long enqueueTimeoutMillis;
+    private final Thread writerThread;
+    // Serializes batch writes between the writer thread and explicit flushes
+    private final Object writeLock = new Object();
+    // Guarded by writeLock: events taken off the queue but not written yet, oldest first.
+    // Holds the batch being collected and any batch whose write failed; at most about two batches,
+    // since nothing more is taken off the queue while a failed batch is waiting
+    private final Deque<PendingCareEvent> unwritten = new ArrayDeque<>();
+    private volatile boolean running = true;
+
+    /**
+     * Creates the writer and starts its background thread
+     * @param batchWriter Writes a batch of events to the database
+     * @param capacity The maximum number of events held in memory
+     * @param batchSize The maximum number of events written per batch
+     * @param flushIntervalMillis How long an event may wait before its batch is written
+     * @param enqueueTimeoutMillis How long a caller waits for space before writing synchronously
+     */
+    public CareEventWriter(BatchWriter batchWriter, int capacity, int batchSize,
+                           long flushIntervalMillis, long enqueueTimeoutMillis) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchWriter = batchWriter;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+
+        this.writerThread = new Thread(this::runWriter, "care-event-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Queues an event for writing.
+     * If the queue stays full for the enqueue timeout, everything accepted before the event and then
+     * the event itself are written synchronously instead, so a slow database slows callers down
+     * rather than losing events or writing them out of order.
+     * @param event The event to write
+     * @throws SQLException If the buffer is shut down or the synchronous fallback write fails;
+     * the event is then not recorded, while the events accepted before it stay buffered
+     */
+    public void enqueue(PendingCareEvent event) throws SQLException {
+        if (!running) {
+            throw new SQLException("Care event writer has been shut down");
+        }
+
+        try {
+            if (queue.offer(event, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                available.release();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (writeLock) {
+            writeAllLocked();
+            batchWriter.write(List.of(event));
+        }
+    }
+
+    /**
+     * Writes every queued event before returning
+     * @throws SQLException If a batch cannot be written; unwritten events stay buffered in order
+     */
+    public void flush() throws SQLException {
+        synchronized (writeLock) {
+            writeAllLocked();
+        }
+    }
+
+    /**
+     * Stops the background thread and durably writes everything still queued
+     * @throws SQLException If the final flush fails
+     */
+    public void shutdown() throws SQLException {
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(flushIntervalMillis + RETRY_DELAY_MILLIS * MAX_ATTEMPTS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * @return The number of events waiting to be written
+     */
+    public int getPendingCount() {
+        synchronized (writeLock) {
+            return unwritten.size() + queue.size();
+        }
+    }
+
+    private void runWriter() {
+        while (running) {
+            try {
+                if (hasUnwritten()) {
+                    // A batch failed: retry it before taking anything newer off the queue
+                    Thread.sleep(RETRY_DELAY_MILLIS);
+                    writeWithRetry();
+                    continue;
+                }
+
+                available.acquire();
+                boolean full = collect();
+                if (!hasUnwritten()) {
+                    // A flush already wrote the event this permit was for
+                    continue;
+                }
+
+                // Keep collecting until the batch is full or the first event has waited long enough
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (!full) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || !available.tryAcquire(remaining, TimeUnit.NANOSECONDS)) {
+                        break;
+                    }
+                    full = collect();
+                }
+
+                writeWithRetry();
+            } catch (InterruptedException e) {
+                // Shutdown: whatever was collected stays unwritten, so the final flush writes it
+            }
+        }
+    }
+
+    /**
+     * Moves queued events to the batch being collected. Done under writeLock, so a flush or a synchronous
+     * write never sees an event that has left the queue but is not in the batch yet.
+     * @return True if the batch is full
+     */
+    private boolean collect() {
+        synchronized (writeLock) {
+            queue.drainTo(unwritten, Math.max(0, batchSize - unwritten.size()));
+            return unwritten.size() >= batchSize;
+        }
+    }
+
+    private boolean hasUnwritten() {
+        synchronized (writeLock) {
+            return !unwritten.isEmpty();
+        }
+    }
+
+    private void writeWithRetry() throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                synchronized (writeLock) {
+                    writeUnwrittenLocked();
+                }
+                return;
+            } catch (SQLException e) {
+                System.err.println("Error writing care events (attempt " + attempt + "): " + e.getMessage());
+                if (attempt >= MAX_ATTEMPTS) {
+                    // Left unwritten; retried before anything newer, and by the shutdown flush
+                    return;
+                }
+                Thread.sleep(RETRY_DELAY_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Writes the unwritten events and then everything queued, oldest first; called holding writeLock
+     */
+    private void writeAllLocked() throws SQLException {
+        writeUnwrittenLocked();
+        while (!queue.isEmpty()) {
+            queue.drainTo(unwritten, batchSize);
+            writeUnwrittenLocked();
+        }
+    }
+
+    /**
+     * Writes the unwritten events in batches; a batch is only removed once it has been written.
+     * Called holding writeLock.
+     */
+    private void writeUnwrittenLocked() throws SQLException {
+        while (!unwritten.isEmpty()) {
+            List<PendingCareEvent> batch = new ArrayList<>(Math.min(batchSize, unwritten.size()));
+            for (PendingCareEvent event : unwritten) {
+                if (batch.size() == batchSize) {
+                    break;
+                }
+                batch.add(event);
+            }
+            batchWriter.write(batch);
+            for (int i = 0; i < batch.size(); i++) {
+                unwritten.removeFirst();
+            }
+        }
+    }
+}
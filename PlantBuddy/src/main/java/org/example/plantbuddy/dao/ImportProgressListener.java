@@ -0,0 +1,16 @@
+package org.example.plantbuddy.dao;
+
+/**
+ * Receives progress updates from {@link PlantDAO#addPlants} after each committed chunk
+ */
+@FunctionalInterface
+public interface ImportProgressListener {
+
+    /**
+     * Called after a chunk of plants has been committed
+     * @param imported The number of plants imported so far
+     * @param total The total number of plants in the import
+     * @param elapsedNanos Time spent since the import started, in nanoseconds
+     */
+    void onProgress(int imported, int total, long elapsedNanos);
+}
@@ -0,0 +1,630 @@
+package org.example.plantbuddy.dao;
+
+import org.example.plantbuddy.model.AdherenceCheckpoint;
+import org.example.plantbuddy.model.AdherenceStats;
+import org.example.plantbuddy.model.CareEvent;
+import org.example.plantbuddy.model.CareStatus;
+import org.example.plantbuddy.model.CareSummary;
+import org.example.plantbuddy.model.Plant;
+import org.example.plantbuddy.model.Reminder;
+import org.example.plantbuddy.util.ImageStore;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * {@link PlantRepository} that keeps everything in memory.
+ * Plants are indexed by ID in a sorted map, so keyset pages are a range view;
+ * care events and reminders are indexed by plant ID.
+ * Nothing is persisted, which makes it suitable for tests, benchmarks and running without MySQL.
+ */
+public class InMemoryPlantRepository implements PlantRepository {
+
+    /**
+     * A stored care event
+     */
+    private record CareEventRow(int id, int plantId, String eventType, LocalDateTime eventDate, String notes) {
+    }
+
+    /**
+     * A stored reminder
+     */
+    private record ReminderRow(int id, int plantId, String careType, LocalDate dueDate, boolean completed) {
+    }
+
+    /**
+     * The key of a monthly rollup within a plant
+     */
+    private record SummaryKey(String eventType, YearMonth month) {
+    }
+
+    private final ConcurrentSkipListMap<Integer, Plant> plants = new ConcurrentSkipListMap<>();
+    private final Map<Integer, List<CareEventRow>> careEventsByPlant = new ConcurrentHashMap<>();
+    private final Map<Integer, List<ReminderRow>> remindersByPlant = new ConcurrentHashMap<>();
+    // Every pending reminder by due date and ID, like idx_reminders_due; updated under the plant's reminder list
+    private final ConcurrentSkipListSet<ReminderRow> remindersByDue = new ConcurrentSkipListSet<>(
+            Comparator.comparing(ReminderRow::dueDate).thenComparingInt(ReminderRow::id));
+    private final Map<Integer, Map<SummaryKey, CareSummary>> summariesByPlant = new ConcurrentHashMap<>();
+
+    private final AtomicInteger plantIds = new AtomicInteger();
+    private final AtomicInteger careEventIds = new AtomicInteger();
+    private final AtomicInteger reminderIds = new AtomicInteger();
+    private final List<ReminderListener> reminderListeners = new CopyOnWriteArrayList<>();
+    private final List<CareEventListener> careEventListeners = new CopyOnWriteArrayList<>();
+    private volatile AdherenceCheckpoint adherenceCheckpoint;
+    // Held while a batch moves from the events to the rollups, so reading the history sees it once
+    private final Object compactionLock = new Object();
+    private final Clock clock;
+
+    public InMemoryPlantRepository() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * @param clock The source of the current time for care events, care dates and reminders
+     */
+    public InMemoryPlantRepository(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public int addPlant(Plant plant) {
+        int id = plantIds.incrementAndGet();
+        plant.setId(id);
+        plants.put(id, copyForStorage(plant));
+
+        // Record initial care event and create reminders, as the database implementation does
+        insertCareEvent(id, "Initial Setup", "Plant added to system", LocalDateTime.now(clock));
+        createWateringReminder(plant);
+        createFertilizingReminder(plant);
+
+        return id;
+    }
+
+    @Override
+    public List<Integer> addPlants(Collection<Plant> plants) {
+        return addPlants(plants, Integer.MAX_VALUE, null);
+    }
+
+    @Override
+    public List<Integer> addPlants(Collection<Plant> plants, int chunkSize, ImportProgressListener listener) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+
+        List<Integer> ids = new ArrayList<>(plants.size());
+        long start = System.nanoTime();
+
+        for (Plant plant : plants) {
+            ids.add(addPlant(plant));
+            if (listener != null && (ids.size() % chunkSize == 0 || ids.size() == plants.size())) {
+                listener.onProgress(ids.size(), plants.size(), System.nanoTime() - start);
+            }
+        }
+
+        return ids;
+    }
+
+    @Override
+    public List<Plant> getAllPlants() {
+        List<Plant> result = new ArrayList<>(plants.size());
+        for (Plant plant : plants.values()) {
+            result.add(new Plant(plant));
+        }
+        return result;
+    }
+
+    @Override
+    public List<Plant> getPlantsAfter(int lastId, int limit) {
+        List<Plant> page = new ArrayList<>(Math.min(limit, 256));
+        for (Plant plant : plants.tailMap(lastId, false).values()) {
+            if (page.size() >= limit) {
+                break;
+            }
+            page.add(new Plant(plant));
+        }
+        return page;
+    }
+
+    @Override
+    public Plant getPlantById(int id) {
+        Plant plant = plants.get(id);
+        return plant != null ? new Plant(plant) : null;
+    }
+
+    @Override
+    public void updatePlant(Plant plant) {
+        // Last care dates are only changed by care events, as in the plants table
+        Plant previous = plants.get(plant.getId());
+        plants.computeIfPresent(plant.getId(), (id, stored) -> {
+            Plant updated = new Plant(plant);
+            updated.setLastWatered(stored.getLastWatered());
+            updated.setLastFertilized(stored.getLastFertilized());
+            updated.setUpdatedAt(LocalDateTime.now(clock));
+            return updated;
+        });
+
+        if (previous != null && previous.getImagepath() != null
+                && !previous.getImagepath().equals(plant.getImagepath())) {
+            releaseIfUnreferenced(previous.getImagepath());
+        }
+    }
+
+    @Override
+    public void deletePlant(int id) {
+        // Mirrors the ON DELETE CASCADE foreign keys
+        Plant removed = plants.remove(id);
+        careEventsByPlant.remove(id);
+        List<ReminderRow> removedReminders = remindersByPlant.remove(id);
+        if (removedReminders != null) {
+            synchronized (removedReminders) {
+                remindersByDue.removeAll(removedReminders);
+            }
+        }
+        summariesByPlant.remove(id);
+        for (ReminderListener listener : reminderListeners) {
+            listener.remindersRemoved(id);
+        }
+        for (CareEventListener listener : careEventListeners) {
+            listener.plantRemoved(id);
+        }
+
+        if (removed != null && removed.getImagepath() != null) {
+            releaseIfUnreferenced(removed.getImagepath());
+        }
+    }
+
+    @Override
+    public int countImageReferences(String imagePath) {
+        int count = 0;
+        for (Plant plant : plants.values()) {
+            if (imagePath.equals(plant.getImagepath())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void addCareEvent(int plantId, String eventType, String notes) {
+        insertCareEvent(plantId, eventType, notes, LocalDateTime.now(clock));
+        if ("Watering".equals(eventType)) {
+            updateLastWatered(plantId, LocalDate.now(clock));
+        } else if ("Fertilizing".equals(eventType)) {
+            updateLastFertilized(plantId, LocalDate.now(clock));
+        }
+    }
+
+    @Override
+    public CareStatus waterPlant(int plantId) throws SQLException {
+        return applyCare(getExistingPlant(plantId), "Watering", LocalDateTime.now(clock));
+    }
+
+    @Override
+    public CareStatus fertilizePlant(int plantId) throws SQLException {
+        return applyCare(getExistingPlant(plantId), "Fertilizing", LocalDateTime.now(clock));
+    }
+
+    @Override
+    public List<CareStatus> recordBulkCare(Collection<Integer> plantIds, String careType) {
+        if (!"Watering".equals(careType) && !"Fertilizing".equals(careType)) {
+            throw new IllegalArgumentException("Unknown care type: " + careType);
+        }
+
+        // Every target is resolved before anything changes; unknown IDs are skipped, as the join
+        // against plants does in the database implementation, so no plant is left half cared for
+        List<Plant> targets = new ArrayList<>();
+        for (int plantId : new TreeSet<>(plantIds)) {
+            Plant plant = plants.get(plantId);
+            if (plant != null) {
+                targets.add(plant);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<CareStatus> statuses = new ArrayList<>(targets.size());
+        for (Plant plant : targets) {
+            statuses.add(applyCare(plant, careType, now));
+        }
+        return statuses;
+    }
+
+    @Override
+    public List<CareStatus> recordCareForDuePlants(String careType) {
+        // Only the reminders due by today are visited, in due date order
+        LocalDate today = LocalDate.now(clock);
+        List<Integer> due = new ArrayList<>();
+        for (ReminderRow row : remindersByDue.headSet(dueBound(today, Integer.MAX_VALUE), true)) {
+            if (!row.completed() && row.careType().equals(careType)) {
+                due.add(row.plantId());
+            }
+        }
+        return recordBulkCare(due, careType);
+    }
+
+    @Override
+    public List<CareEvent> getCareHistory(int plantId, LocalDateTime from, LocalDateTime to,
+                                          CareEvent after, int limit) {
+        Comparator<CareEvent> newestFirst = Comparator.comparing(CareEvent::eventDate)
+                .thenComparingInt(CareEvent::id).reversed();
+
+        List<CareEvent> history = new ArrayList<>();
+        List<CareEventRow> stored = careEventsByPlant.get(plantId);
+        if (stored != null) {
+            synchronized (stored) {
+                for (CareEventRow row : stored) {
+                    CareEvent event = new CareEvent(row.id(), row.plantId(), row.eventType(),
+                            row.eventDate(), row.notes());
+                    if (!row.eventDate().isBefore(from) && !row.eventDate().isAfter(to)
+                            && (after == null || newestFirst.compare(event, after) > 0)) {
+                        history.add(event);
+                    }
+                }
+            }
+        }
+        history.sort(newestFirst);
+        return history.size() > limit ? new ArrayList<>(history.subList(0, limit)) : history;
+    }
+
+    @Override
+    public List<CareSummary> getCareSummaries(int plantId) {
+        List<CareSummary> summaries = new ArrayList<>();
+        Map<SummaryKey, CareSummary> stored = summariesByPlant.get(plantId);
+        if (stored != null) {
+            synchronized (stored) {
+                summaries.addAll(stored.values());
+            }
+        }
+        summaries.sort(Comparator.comparing(CareSummary::month).reversed().thenComparing(CareSummary::eventType));
+        return summaries;
+    }
+
+    @Override
+    public int compactCareEvents(LocalDateTime cutoff, int batchSize) {
+        synchronized (compactionLock) {
+            return compactBatch(cutoff, batchSize);
+        }
+    }
+
+    private int compactBatch(LocalDateTime cutoff, int batchSize) {
+        // Oldest events first, as the database implementation does
+        List<CareEventRow> batch = new ArrayList<>();
+        for (List<CareEventRow> events : careEventsByPlant.values()) {
+            synchronized (events) {
+                for (CareEventRow row : events) {
+                    if (row.eventDate().isBefore(cutoff)) {
+                        batch.add(row);
+                    }
+                }
+            }
+        }
+        batch.sort(Comparator.comparingInt(CareEventRow::id));
+        if (batch.size() > batchSize) {
+            batch = batch.subList(0, batchSize);
+        }
+
+        // One pass over each plant's events keeps the survivors, rather than a removal per compacted event
+        Map<Integer, Set<Integer>> compactedIds = new HashMap<>();
+        for (CareEventRow row : batch) {
+            compactedIds.computeIfAbsent(row.plantId(), id -> new HashSet<>()).add(row.id());
+        }
+        for (Map.Entry<Integer, Set<Integer>> entry : compactedIds.entrySet()) {
+            List<CareEventRow> events = careEventsByPlant.get(entry.getKey());
+            if (events != null) {
+                Set<Integer> ids = entry.getValue();
+                synchronized (events) {
+                    events.removeIf(row -> ids.contains(row.id()));
+                }
+            }
+        }
+
+        for (CareEventRow row : batch) {
+            Map<SummaryKey, CareSummary> summaries =
+                    summariesByPlant.computeIfAbsent(row.plantId(), id -> new HashMap<>());
+            synchronized (summaries) {
+                summaries.merge(new SummaryKey(row.eventType(), YearMonth.from(row.eventDate())),
+                        new CareSummary(row.plantId(), row.eventType(), YearMonth.from(row.eventDate()), 1,
+                                row.eventDate(), row.eventDate()),
+                        (existing, added) -> new CareSummary(existing.plantId(), existing.eventType(),
+                                existing.month(), existing.eventCount() + 1,
+                                existing.firstEvent().isBefore(added.firstEvent()) ?
+                                        existing.firstEvent() : added.firstEvent(),
+                                existing.lastEvent().isAfter(added.lastEvent()) ?
+                                        existing.lastEvent() : added.lastEvent()));
+            }
+        }
+        return batch.size();
+    }
+
+    @Override
+    public void streamCareEvents(LocalDateTime from, Consumer<CareEvent> consumer) {
+        List<CareEventRow> rows = new ArrayList<>();
+        for (List<CareEventRow> events : careEventsByPlant.values()) {
+            synchronized (events) {
+                for (CareEventRow row : events) {
+                    if (!row.eventDate().isBefore(from)) {
+                        rows.add(row);
+                    }
+                }
+            }
+        }
+        rows.sort(Comparator.comparing(CareEventRow::eventDate).thenComparingInt(CareEventRow::id));
+        for (CareEventRow row : rows) {
+            consumer.accept(new CareEvent(row.id(), row.plantId(), row.eventType(), row.eventDate(), null));
+        }
+    }
+
+    @Override
+    public void streamCareHistory(Consumer<CareSummary> summaries, Consumer<CareEvent> events) {
+        List<CareSummary> months = new ArrayList<>();
+        synchronized (compactionLock) {
+            for (Map<SummaryKey, CareSummary> stored : summariesByPlant.values()) {
+                synchronized (stored) {
+                    months.addAll(stored.values());
+                }
+            }
+            // Read under the same lock, so no batch is compacted between the two reads;
+            // ordered as the database implementation orders them, initial setup first within a month
+            months.sort(Comparator.comparing(CareSummary::month).thenComparingInt(CareSummary::plantId)
+                    .thenComparing(summary -> !"Initial Setup".equals(summary.eventType()))
+                    .thenComparing(CareSummary::eventType));
+            for (CareSummary summary : months) {
+                summaries.accept(summary);
+            }
+            streamCareEvents(LocalDate.EPOCH.atStartOfDay(), events);
+        }
+    }
+
+    @Override
+    public void addCareEventListener(CareEventListener listener) {
+        careEventListeners.add(listener);
+    }
+
+    @Override
+    public AdherenceCheckpoint loadAdherenceCheckpoint() {
+        return adherenceCheckpoint;
+    }
+
+    @Override
+    public synchronized void saveAdherenceCheckpoint(LocalDateTime takenAt, Collection<AdherenceStats> changed,
+                                                     boolean replaceAll) {
+        // Keyed like the care_adherence primary key; stats of deleted plants are dropped
+        Map<String, AdherenceStats> saved = new HashMap<>();
+        if (!replaceAll && adherenceCheckpoint != null) {
+            for (AdherenceStats stats : adherenceCheckpoint.stats()) {
+                saved.put(stats.plantId() + ":" + stats.careType(), stats);
+            }
+        }
+        for (AdherenceStats stats : changed) {
+            saved.put(stats.plantId() + ":" + stats.careType(), stats);
+        }
+        saved.values().removeIf(stats -> !plants.containsKey(stats.plantId()));
+        adherenceCheckpoint = new AdherenceCheckpoint(takenAt, new ArrayList<>(saved.values()));
+    }
+
+    @Override
+    public void updateLastWatered(int plantId, LocalDate date) {
+        plants.computeIfPresent(plantId, (id, stored) -> {
+            Plant updated = new Plant(stored);
+            updated.setLastWatered(date);
+            updated.setUpdatedAt(LocalDateTime.now(clock));
+            return updated;
+        });
+    }
+
+    @Override
+    public void updateLastFertilized(int plantId, LocalDate date) {
+        plants.computeIfPresent(plantId, (id, stored) -> {
+            Plant updated = new Plant(stored);
+            updated.setLastFertilized(date);
+            updated.setUpdatedAt(LocalDateTime.now(clock));
+            return updated;
+        });
+    }
+
+    @Override
+    public void createWateringReminder(Plant plant) {
+        createReminder(plant.getId(), "Watering", LocalDate.now(clock).plusDays(plant.getWateringFrequency()));
+    }
+
+    @Override
+    public void createFertilizingReminder(Plant plant) {
+        createReminder(plant.getId(), "Fertilizing", LocalDate.now(clock).plusDays(plant.getFertilizingFrequency()));
+    }
+
+    @Override
+    public List<Map<String, Object>> getRemindersForPlant(int plantId) {
+        List<ReminderRow> rows = new ArrayList<>();
+        List<ReminderRow> stored = remindersByPlant.get(plantId);
+        if (stored != null) {
+            synchronized (stored) {
+                for (ReminderRow row : stored) {
+                    if (!row.completed()) {
+                        rows.add(row);
+                    }
+                }
+            }
+        }
+        rows.sort(Comparator.comparing(ReminderRow::dueDate));
+
+        List<Map<String, Object>> reminders = new ArrayList<>(rows.size());
+        for (ReminderRow row : rows) {
+            Map<String, Object> reminder = new HashMap<>();
+            reminder.put("id", row.id());
+            reminder.put("plantId", row.plantId());
+            reminder.put("careType", row.careType());
+            reminder.put("dueDate", row.dueDate());
+            reminder.put("completed", row.completed());
+            reminders.add(reminder);
+        }
+        return reminders;
+    }
+
+    @Override
+    public List<Reminder> getDueReminders(LocalDate from, LocalDate to, int limit) {
+        // A range of the due date index, already in due date and ID order
+        List<Reminder> due = new ArrayList<>();
+        for (ReminderRow row : remindersByDue.subSet(dueBound(from, Integer.MIN_VALUE), true,
+                dueBound(to, Integer.MAX_VALUE), true)) {
+            if (due.size() >= limit) {
+                break;
+            }
+            if (!row.completed()) {
+                due.add(new Reminder(row.id(), row.plantId(), row.careType(), row.dueDate()));
+            }
+        }
+        return due;
+    }
+
+    /**
+     * @return A key that sorts before or after every reminder due on the date, depending on the ID
+     */
+    private static ReminderRow dueBound(LocalDate dueDate, int id) {
+        return new ReminderRow(id, 0, "", dueDate, false);
+    }
+
+    @Override
+    public List<Reminder> getPendingReminders() {
+        List<Reminder> reminders = new ArrayList<>();
+        for (List<ReminderRow> stored : remindersByPlant.values()) {
+            synchronized (stored) {
+                for (ReminderRow row : stored) {
+                    if (!row.completed()) {
+                        reminders.add(new Reminder(row.id(), row.plantId(), row.careType(), row.dueDate()));
+                    }
+                }
+            }
+        }
+        return reminders;
+    }
+
+    @Override
+    public void addReminderListener(ReminderListener listener) {
+        reminderListeners.add(listener);
+    }
+
+    private void fireReminderScheduled(int plantId, String careType, LocalDate dueDate) {
+        for (ReminderListener listener : reminderListeners) {
+            listener.reminderScheduled(plantId, careType, dueDate);
+        }
+    }
+
+    /**
+     * Deletes a stored photo once no plant uses it, as the database implementation does
+     */
+    private void releaseIfUnreferenced(String imagePath) {
+        ImageStore.release(imagePath, this::countImageReferences);
+    }
+
+    /**
+     * Copies a plant for storage; like a new plants row it has no last care dates yet,
+     * so they start at the acquisition date
+     */
+    private Plant copyForStorage(Plant plant) {
+        Plant stored = new Plant(plant);
+        stored.setLastWatered(plant.getDateAcquired());
+        stored.setLastFertilized(plant.getDateAcquired());
+        stored.setUpdatedAt(LocalDateTime.now(clock));
+        return stored;
+    }
+
+    /**
+     * @return The stored plant
+     * @throws SQLException If there is no plant with the ID, as the database implementation reports it
+     */
+    private Plant getExistingPlant(int plantId) throws SQLException {
+        Plant plant = plants.get(plantId);
+        if (plant == null) {
+            throw new SQLException("Plant not found with ID: " + plantId);
+        }
+        return plant;
+    }
+
+    /**
+     * Writes a watering or fertilizing event with its last care date and rescheduled reminder.
+     * Cannot fail, so bulk care either applies to every target or, if validation fails first, to none.
+     * @param plant The plant as stored when the targets were resolved
+     * @param careType "Watering" or "Fertilizing"
+     * @param now When the care happened
+     * @return The plant's care status after the event
+     */
+    private CareStatus applyCare(Plant plant, String careType, LocalDateTime now) {
+        LocalDate today = now.toLocalDate();
+        boolean watering = "Watering".equals(careType);
+        insertCareEvent(plant.getId(), careType,
+                (watering ? "Plant watered on " : "Plant fertilized on ") + today, now);
+        if (watering) {
+            updateLastWatered(plant.getId(), today);
+        } else {
+            updateLastFertilized(plant.getId(), today);
+        }
+
+        LocalDate nextDueDate = today.plusDays(watering ? plant.getWateringFrequency() : plant.getFertilizingFrequency());
+        replaceReminder(plant.getId(), careType, nextDueDate);
+        return new CareStatus(plant.getId(), careType, today, nextDueDate);
+    }
+
+    private void insertCareEvent(int plantId, String eventType, String notes, LocalDateTime eventDate) {
+        if (!plants.containsKey(plantId)) {
+            return;
+        }
+        CareEventRow row = new CareEventRow(careEventIds.incrementAndGet(), plantId, eventType, eventDate, notes);
+        List<CareEventRow> events = careEventsByPlant.computeIfAbsent(plantId, id -> new ArrayList<>());
+        synchronized (events) {
+            events.add(row);
+        }
+        for (CareEventListener listener : careEventListeners) {
+            listener.careRecorded(plantId, eventType, eventDate);
+        }
+    }
+
+    private void createReminder(int plantId, String careType, LocalDate dueDate) {
+        if (!plants.containsKey(plantId)) {
+            return;
+        }
+        replaceReminder(plantId, careType, dueDate);
+    }
+
+    /**
+     * Moves the plant's reminder of the given type to a new due date, creating it if there is none;
+     * like the upsert on uq_reminders_plant_care, an existing reminder keeps its ID
+     */
+    private void replaceReminder(int plantId, String careType, LocalDate dueDate) {
+        List<ReminderRow> reminders = remindersByPlant.computeIfAbsent(plantId, id -> new ArrayList<>());
+        synchronized (reminders) {
+            int index = 0;
+            while (index < reminders.size() && !reminders.get(index).careType().equals(careType)) {
+                index++;
+            }
+            ReminderRow row;
+            if (index < reminders.size()) {
+                remindersByDue.remove(reminders.get(index));
+                row = new ReminderRow(reminders.get(index).id(), plantId, careType, dueDate, false);
+                reminders.set(index, row);
+            } else {
+                row = new ReminderRow(reminderIds.incrementAndGet(), plantId, careType, dueDate, false);
+                reminders.add(row);
+            }
+            remindersByDue.add(row);
+        }
+        fireReminderScheduled(plantId, careType, dueDate);
+    }
+}
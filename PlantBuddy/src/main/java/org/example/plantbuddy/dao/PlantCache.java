@@ -0,0 +1,115 @@
+package org.example.plantbuddy.dao;
+
+import org.example.plantbuddy.model.Plant;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size-bounded LRU cache of plants keyed by ID.
+ * Plants are copied on the way in and out, so callers can modify what they get back
+ * without changing the cached entry.
+ */
+public class PlantCache {
+    private final int maxSize;
+    private final LinkedHashMap<Integer, Plant> entries;
+
+    // Bumped on every invalidation so loads that raced with a write are not cached
+    private long invalidationCount;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates an empty cache
+     * @param maxSize The maximum number of plants kept; the least recently used are evicted first
+     */
+    public PlantCache(int maxSize) {
+        this.maxSize = maxSize;
+        // Access order makes iteration order least recently used first
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Plant> eldest) {
+                if (size() > PlantCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Looks up a plant and counts the hit or miss
+     * @param id The ID of the plant
+     * @return A copy of the cached plant, or null if it is not cached
+     */
+    public synchronized Plant get(int id) {
+        Plant plant = entries.get(id);
+        if (plant == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return new Plant(plant);
+    }
+
+    /**
+     * Marks the start of a database load, see {@link #put(Plant, long)}
+     * @return A stamp to pass to put once the load completes
+     */
+    public synchronized long startLoad() {
+        return invalidationCount;
+    }
+
+    /**
+     * Caches a plant loaded from the database, unless something was invalidated since the load started
+     * @param plant The plant that was loaded
+     * @param loadStamp The value returned by {@link #startLoad()} before the load
+     */
+    public synchronized void put(Plant plant, long loadStamp) {
+        if (loadStamp == invalidationCount && maxSize > 0) {
+            entries.put(plant.getId(), new Plant(plant));
+        }
+    }
+
+    /**
+     * Removes a plant from the cache after it has changed in the database
+     * @param id The ID of the plant
+     */
+    public synchronized void invalidate(int id) {
+        invalidationCount++;
+        entries.remove(id);
+    }
+
+    /**
+     * Removes every plant from the cache
+     */
+    public synchronized void clear() {
+        invalidationCount++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "PlantCache[size=" + entries.size() + "/" + maxSize + ", hits=" + hits +
+                ", misses=" + misses + ", evictions=" + evictions + "]";
+    }
+}
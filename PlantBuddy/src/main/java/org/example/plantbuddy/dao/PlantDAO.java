@@ -1,67 +1,181 @@
 package org.example.plantbuddy.dao;
 
+import org.example.plantbuddy.dao.CareEventWriter.PendingCareEvent;
+import org.example.plantbuddy.model.AdherenceCheckpoint;
+import org.example.plantbuddy.model.AdherenceStats;
+import org.example.plantbuddy.model.CareEvent;
+import org.example.plantbuddy.model.CareStatus;
+import org.example.plantbuddy.model.CareSummary;
 import org.example.plantbuddy.model.Plant;
+import org.example.plantbuddy.model.Reminder;
 import org.example.plantbuddy.util.DatabaseUtil;
+import org.example.plantbuddy.util.ImageStore;
 
 import java.sql.*;
 import java.sql.Date;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
-public class PlantDAO {
+/**
+ * MySQL implementation of {@link PlantRepository}
+ */
+public class PlantDAO implements PlantRepository {
+
+    // Shared by every PlantDAO instance, only created when write-behind is enabled
+    private static CareEventWriter careEventWriter;
+    private static boolean writeBehindShutDown;
+
+    // Shared by every PlantDAO instance so navigating between views reuses loaded plants
+    private static final PlantCache plantCache =
+            new PlantCache(DatabaseUtil.getIntProperty("db.cache.size", 2000));
+
+    private final List<ReminderListener> reminderListeners = new CopyOnWriteArrayList<>();
+    private final List<CareEventListener> careEventListeners = new CopyOnWriteArrayList<>();
 
     /**
-     * Adds a new plant to the database
+     * Adds a new plant to the database.
+     * The plant row, its initial care event and both reminders are written in one transaction.
      * @param plant The plant object to be added
      * @return The database ID of the newly added plant
      * @throws SQLException If there's a database error
      */
+    @Override
     public int addPlant(Plant plant) throws SQLException {
-        String sql = "INSERT INTO plants (name, species, location, light_needs, acquisition_date, " +
-                "watering_frequency, fertilizing_frequency, image_path, notes) " +
-                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        LocalDate today = LocalDate.now();
+        int plantId = UnitOfWork.execute(conn -> {
+            insertPlantChunk(conn, List.of(plant), today);
+            return plant.getId();
+        });
+        plantCache.invalidate(plantId);
+        firePlantAdded(plant, today);
+        return plantId;
+    }
 
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+    /**
+     * Adds many plants at once using batched statements.
+     * Plants are written in chunks of db.batch.size rows, each chunk in its own transaction.
+     * @param plants The plants to add; their IDs are set once inserted
+     * @return The database IDs of the new plants, in iteration order
+     * @throws SQLException If there's a database error
+     */
+    @Override
+    public List<Integer> addPlants(Collection<Plant> plants) throws SQLException {
+        return addPlants(plants, DatabaseUtil.getIntProperty("db.batch.size", 500), null);
+    }
+
+    /**
+     * Adds many plants at once using batched statements.
+     * Each chunk inserts the plant rows, their initial care events and their reminders as three batches
+     * in one transaction, so a failure only rolls back the chunk that was in progress.
+     * @param plants The plants to add; their IDs are set once inserted
+     * @param chunkSize The number of plants written per transaction
+     * @param listener Notified after each committed chunk, may be null
+     * @return The database IDs of the new plants, in iteration order
+     * @throws SQLException If there's a database error
+     */
+    @Override
+    public List<Integer> addPlants(Collection<Plant> plants, int chunkSize,
+                                   ImportProgressListener listener) throws SQLException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
 
-            stmt.setString(1, plant.getName());
-            stmt.setString(2, plant.getSpecies());
-            stmt.setString(3, plant.getLocation());
-            stmt.setString(4, plant.getLightneeds());
-            stmt.setDate(5, plant.getDateAcquired() != null ?
-                    Date.valueOf(plant.getDateAcquired()) : null);
-            stmt.setInt(6, plant.getWateringFrequency());
-            stmt.setInt(7, plant.getFertilizingFrequency());
-            stmt.setString(8, plant.getImagepath());
-            stmt.setString(9, plant.getNotes());
+        List<Plant> remaining = new ArrayList<>(plants);
+        List<Integer> ids = new ArrayList<>(remaining.size());
+        long start = System.nanoTime();
+
+        for (int from = 0; from < remaining.size(); from += chunkSize) {
+            List<Plant> chunk = remaining.subList(from, Math.min(from + chunkSize, remaining.size()));
+            LocalDate today = LocalDate.now();
+            UnitOfWork.run(conn -> insertPlantChunk(conn, chunk, today));
+
+            for (Plant plant : chunk) {
+                ids.add(plant.getId());
+                plantCache.invalidate(plant.getId());
+                firePlantAdded(plant, today);
+            }
+            if (listener != null) {
+                listener.onProgress(ids.size(), remaining.size(), System.nanoTime() - start);
+            }
+        }
 
-            int affectedRows = stmt.executeUpdate();
+        return ids;
+    }
 
-            if (affectedRows == 0) {
-                throw new SQLException("Creating plant failed, no rows affected.");
+    /**
+     * Inserts a chunk of plants with their initial care events and reminders
+     * @param conn The connection of the surrounding unit of work
+     * @param chunk The plants to insert
+     * @param today The date the reminders are counted from
+     * @throws SQLException If there's a database error
+     */
+    private void insertPlantChunk(Connection conn, List<Plant> chunk, LocalDate today) throws SQLException {
+        try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.INSERT_PLANT)) {
+            for (Plant plant : chunk) {
+                bindPlant(stmt, plant);
+                stmt.addBatch();
             }
+            stmt.executeBatch();
 
+            // Keys come back in batch order
             try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    int id = generatedKeys.getInt(1);
-                    plant.setId(id);
+                for (Plant plant : chunk) {
+                    if (!generatedKeys.next()) {
+                        throw new SQLException("Creating plants failed, fewer IDs than rows obtained.");
+                    }
+                    plant.setId(generatedKeys.getInt(1));
+                }
+            }
+        }
 
-                    // Record initial care events
-                    addCareEvent(id, "Initial Setup", "Plant added to system");
+        try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.INSERT_INITIAL_CARE_EVENT)) {
+            for (Plant plant : chunk) {
+                stmt.setInt(1, plant.getId());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
 
-                    // Create reminders
-                    createWateringReminder(plant);
-                    createFertilizingReminder(plant);
+        try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.UPSERT_REMINDER)) {
+            for (Plant plant : chunk) {
+                stmt.setInt(1, plant.getId());
+                stmt.setString(2, "Watering");
+                stmt.setDate(3, Date.valueOf(today.plusDays(plant.getWateringFrequency())));
+                stmt.addBatch();
 
-                    return id;
-                } else {
-                    throw new SQLException("Creating plant failed, no ID obtained.");
-                }
+                stmt.setInt(1, plant.getId());
+                stmt.setString(2, "Fertilizing");
+                stmt.setDate(3, Date.valueOf(today.plusDays(plant.getFertilizingFrequency())));
+                stmt.addBatch();
             }
+            stmt.executeBatch();
         }
     }
 
+    /**
+     * Binds the plant columns, in INSERT_PLANT order, to the first nine parameters
+     * @param stmt The statement to bind
+     * @param plant The plant supplying the values
+     * @throws SQLException If there's a database error
+     */
+    private static void bindPlant(PreparedStatement stmt, Plant plant) throws SQLException {
+        stmt.setString(1, plant.getName());
+        stmt.setString(2, plant.getSpecies());
+        stmt.setString(3, plant.getLocation());
+        stmt.setString(4, plant.getLightneeds());
+        stmt.setDate(5, plant.getDateAcquired() != null ?
+                Date.valueOf(plant.getDateAcquired()) : null);
+        stmt.setInt(6, plant.getWateringFrequency());
+        stmt.setInt(7, plant.getFertilizingFrequency());
+        stmt.setString(8, plant.getImagepath());
+        stmt.setString(9, plant.getNotes());
+    }
+
     /**
      * Adds a care event for a plant
      * @param plantId The ID of the plant
@@ -69,18 +183,101 @@ public class PlantDAO {
      * @param notes Any notes about the event
      * @throws SQLException If there's a database error
      */
+    @Override
     public void addCareEvent(int plantId, String eventType, String notes) throws SQLException {
-        String sql = "INSERT INTO care_events (plant_id, event_type, event_date, notes) " +
-                "VALUES (?, ?, NOW(), ?)";
+        List<PendingCareEvent> events = List.of(
+                new PendingCareEvent(plantId, eventType, notes, LocalDateTime.now()));
+        UnitOfWork.run(conn -> {
+            insertCareEvents(conn, events);
+            updateLastCareDates(conn, events);
+        });
+        plantCache.invalidate(plantId);
+        fireCareRecorded(plantId, eventType, events.get(0).eventTime());
+    }
 
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+    /**
+     * Inserts care events as one batch
+     * @param conn The connection of the surrounding unit of work
+     * @param events The events to insert
+     * @throws SQLException If there's a database error
+     */
+    private void insertCareEvents(Connection conn, List<PendingCareEvent> events) throws SQLException {
+        try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.INSERT_CARE_EVENT)) {
+            for (PendingCareEvent event : events) {
+                stmt.setInt(1, event.plantId());
+                stmt.setString(2, event.eventType());
+                stmt.setTimestamp(3, Timestamp.valueOf(event.eventTime()));
+                stmt.setString(4, event.notes());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
 
-            stmt.setInt(1, plantId);
-            stmt.setString(2, eventType);
-            stmt.setString(3, notes);
+    /**
+     * Moves last_watered / last_fertilized forward for the watering and fertilizing events given
+     * @param conn The connection of the surrounding unit of work
+     * @param events The events that were recorded
+     * @throws SQLException If there's a database error
+     */
+    private void updateLastCareDates(Connection conn, List<PendingCareEvent> events) throws SQLException {
+        try (PreparedStatement waterStmt = StatementRegistry.prepare(conn, PlantSql.ADVANCE_LAST_WATERED);
+             PreparedStatement fertilizeStmt = StatementRegistry.prepare(conn, PlantSql.ADVANCE_LAST_FERTILIZED)) {
+            boolean watered = false;
+            boolean fertilized = false;
 
-            stmt.executeUpdate();
+            for (PendingCareEvent event : events) {
+                PreparedStatement stmt;
+                if ("Watering".equals(event.eventType())) {
+                    stmt = waterStmt;
+                    watered = true;
+                } else if ("Fertilizing".equals(event.eventType())) {
+                    stmt = fertilizeStmt;
+                    fertilized = true;
+                } else {
+                    continue;
+                }
+                Date date = Date.valueOf(event.eventTime().toLocalDate());
+                stmt.setDate(1, date);
+                stmt.setDate(2, date);
+                stmt.setInt(3, event.plantId());
+                stmt.addBatch();
+            }
+
+            if (watered) {
+                waterStmt.executeBatch();
+            }
+            if (fertilized) {
+                fertilizeStmt.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * Moves the watering / fertilizing reminder of every plant cared for in the events to
+     * the care date plus the plant's stored frequency, updating each reminder row in place.
+     * A batch can hold several events for the same plant and care type; only the latest of them
+     * decides the reminder, so each pair is written once.
+     * @param conn The connection of the surrounding unit of work
+     * @param events The watering and fertilizing events that were recorded, oldest first
+     * @throws SQLException If there's a database error
+     */
+    private void rescheduleReminders(Connection conn, List<PendingCareEvent> events) throws SQLException {
+        Map<String, PendingCareEvent> latest = new LinkedHashMap<>();
+        for (PendingCareEvent event : events) {
+            latest.merge(event.plantId() + ":" + event.eventType(), event,
+                    (kept, other) -> other.eventTime().isAfter(kept.eventTime()) ? other : kept);
+        }
+
+        try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.UPSERT_REMINDER_FROM_FREQUENCY)) {
+            for (PendingCareEvent event : latest.values()) {
+                stmt.setString(1, event.eventType());
+                stmt.setDate(2, Date.valueOf(event.eventTime().toLocalDate()));
+                stmt.setString(3, event.eventType());
+                stmt.setInt(4, event.plantId());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
         }
     }
 
@@ -89,6 +286,7 @@ public class PlantDAO {
      * @param plant The plant to create the reminder for
      * @throws SQLException If there's a database error
      */
+    @Override
     public void createWateringReminder(Plant plant) throws SQLException {
         createReminder(plant.getId(), "Watering",
                 LocalDate.now().plusDays(plant.getWateringFrequency()));
@@ -99,24 +297,22 @@ public class PlantDAO {
      * @param plant The plant to create the reminder for
      * @throws SQLException If there's a database error
      */
+    @Override
     public void createFertilizingReminder(Plant plant) throws SQLException {
         createReminder(plant.getId(), "Fertilizing",
                 LocalDate.now().plusDays(plant.getFertilizingFrequency()));
     }
 
     /**
-     * Creates a reminder entry in the database
+     * Creates a reminder entry in the database, or moves the plant's existing reminder of that type
      * @param plantId The ID of the plant
      * @param careType The type of care reminder
      * @param dueDate The due date for the care task
      * @throws SQLException If there's a database error
      */
     private void createReminder(int plantId, String careType, LocalDate dueDate) throws SQLException {
-        String sql = "INSERT INTO reminders (plant_id, care_type, due_date, is_completed) " +
-                "VALUES (?, ?, ?, false)";
-
         try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.UPSERT_REMINDER)) {
 
             stmt.setInt(1, plantId);
             stmt.setString(2, careType);
@@ -124,6 +320,30 @@ public class PlantDAO {
 
             stmt.executeUpdate();
         }
+        fireReminderScheduled(plantId, careType, dueDate);
+    }
+
+    /**
+     * Tells the listeners about a new plant's initial setup event and the two reminders it starts with
+     * @param plant The committed plant
+     * @param today The date its reminders were counted from
+     */
+    private void firePlantAdded(Plant plant, LocalDate today) {
+        fireCareRecorded(plant.getId(), "Initial Setup", LocalDateTime.now());
+        fireReminderScheduled(plant.getId(), "Watering", today.plusDays(plant.getWateringFrequency()));
+        fireReminderScheduled(plant.getId(), "Fertilizing", today.plusDays(plant.getFertilizingFrequency()));
+    }
+
+    private void fireCareRecorded(int plantId, String eventType, LocalDateTime eventTime) {
+        for (CareEventListener listener : careEventListeners) {
+            listener.careRecorded(plantId, eventType, eventTime);
+        }
+    }
+
+    private void fireReminderScheduled(int plantId, String careType, LocalDate dueDate) {
+        for (ReminderListener listener : reminderListeners) {
+            listener.reminderScheduled(plantId, careType, dueDate);
+        }
     }
 
     /**
@@ -131,17 +351,50 @@ public class PlantDAO {
      * @return List of all plants
      * @throws SQLException If there's a database error
      */
+    @Override
     public List<Plant> getAllPlants() throws SQLException {
         List<Plant> plants = new ArrayList<>();
-        String sql = "SELECT * FROM plants";
+        long loadStamp = plantCache.startLoad();
 
         try (Connection conn = DatabaseUtil.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+             PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.SELECT_ALL_PLANTS);
+             ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 Plant plant = mapResultSetToPlant(rs);
                 plants.add(plant);
+                plantCache.put(plant, loadStamp);
+            }
+        }
+
+        return plants;
+    }
+
+    /**
+     * Retrieves one page of plants ordered by ID, starting after the given ID.
+     * Uses keyset pagination, so every page costs the same regardless of how deep into the list it is.
+     * @param lastId The ID of the last plant on the previous page, or 0 for the first page
+     * @param limit The maximum number of plants to return
+     * @return The next page of plants; fewer than limit means there are no more
+     * @throws SQLException If there's a database error
+     */
+    @Override
+    public List<Plant> getPlantsAfter(int lastId, int limit) throws SQLException {
+        List<Plant> plants = new ArrayList<>(limit);
+        long loadStamp = plantCache.startLoad();
+
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.SELECT_PLANTS_AFTER)) {
+
+            stmt.setInt(1, lastId);
+            stmt.setInt(2, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Plant plant = mapResultSetToPlant(rs);
+                    plants.add(plant);
+                    plantCache.put(plant, loadStamp);
+                }
             }
         }
 
@@ -154,17 +407,25 @@ public class PlantDAO {
      * @return The plant, or null if not found
      * @throws SQLException If there's a database error
      */
+    @Override
     public Plant getPlantById(int id) throws SQLException {
-        String sql = "SELECT * FROM plants WHERE id = ?";
+        Plant cached = plantCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadStamp = plantCache.startLoad();
 
         try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.SELECT_PLANT_BY_ID)) {
 
             stmt.setInt(1, id);
 
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToPlant(rs);
+                    Plant plant = mapResultSetToPlant(rs);
+                    plantCache.put(plant, loadStamp);
+                    return plant;
                 }
             }
         }
@@ -173,92 +434,571 @@ public class PlantDAO {
     }
 
     /**
-     * Updates an existing plant in the database
+     * Updates an existing plant in the database and releases the photo it stopped using
      * @param plant The plant to update
      * @throws SQLException If there's a database error
      */
+    @Override
     public void updatePlant(Plant plant) throws SQLException {
-        String sql = "UPDATE plants SET name = ?, species = ?, location = ?, " +
-                "light_needs = ?, acquisition_date = ?, watering_frequency = ?, " +
-                "fertilizing_frequency = ?, image_path = ?, notes = ? " +
-                "WHERE id = ?";
+        String orphanedImage;
+        try {
+            orphanedImage = UnitOfWork.execute(conn -> {
+                String previousImage = selectImagePath(conn, plant.getId());
 
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setString(1, plant.getName());
-            stmt.setString(2, plant.getSpecies());
-            stmt.setString(3, plant.getLocation());
-            stmt.setString(4, plant.getLightneeds());
-            stmt.setDate(5, plant.getDateAcquired() != null ?
-                    Date.valueOf(plant.getDateAcquired()) : null);
-            stmt.setInt(6, plant.getWateringFrequency());
-            stmt.setInt(7, plant.getFertilizingFrequency());
-            stmt.setString(8, plant.getImagepath());
-            stmt.setString(9, plant.getNotes());
-            stmt.setInt(10, plant.getId());
+                try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.UPDATE_PLANT)) {
+                    bindPlant(stmt, plant);
+                    stmt.setInt(10, plant.getId());
 
-            stmt.executeUpdate();
+                    stmt.executeUpdate();
+                }
+
+                boolean replaced = previousImage != null && !previousImage.equals(plant.getImagepath());
+                return replaced ? previousImage : null;
+            });
+        } finally {
+            plantCache.invalidate(plant.getId());
+        }
+
+        // Only counted and deleted once the row no longer pointing at it is committed
+        if (orphanedImage != null) {
+            ImageStore.release(orphanedImage, this::countImageReferences);
         }
     }
 
     /**
      * Records a watering event for a plant and updates the last watered date
      * @param plantId The ID of the plant
+     * @return The plant's watering status after the event
      * @throws SQLException If there's a database error
      */
-    public void waterPlant(int plantId) throws SQLException {
+    @Override
+    public CareStatus waterPlant(int plantId) throws SQLException {
         LocalDate today = LocalDate.now();
-        addCareEvent(plantId, "Watering", "Plant watered on " + today);
-        updateLastWatered(plantId, today);
-
-        // Create a new reminder based on the plant's watering frequency
-        Plant plant = getPlantById(plantId);
-        if (plant != null) {
-            // Remove existing watering reminders
-            removeReminders(plantId, "Watering");
-            // Create new watering reminder
-            createWateringReminder(plant);
-        }
+        return recordCare(new PendingCareEvent(plantId, "Watering",
+                "Plant watered on " + today, LocalDateTime.now()));
     }
 
     /**
      * Records a fertilizing event for a plant and updates the last fertilized date
      * @param plantId The ID of the plant
+     * @return The plant's fertilizing status after the event
      * @throws SQLException If there's a database error
      */
-    public void fertilizePlant(int plantId) throws SQLException {
+    @Override
+    public CareStatus fertilizePlant(int plantId) throws SQLException {
         LocalDate today = LocalDate.now();
-        addCareEvent(plantId, "Fertilizing", "Plant fertilized on " + today);
-        updateLastFertilized(plantId, today);
+        return recordCare(new PendingCareEvent(plantId, "Fertilizing",
+                "Plant fertilized on " + today, LocalDateTime.now()));
+    }
+
+    /**
+     * Records a watering or fertilizing event, either right away or through the write-behind buffer
+     * @param event The care event
+     * @return The care status after the event; a buffered event has no next due date yet
+     * @throws SQLException If there's a database error
+     */
+    private CareStatus recordCare(PendingCareEvent event) throws SQLException {
+        CareEventWriter writer = getCareEventWriter();
+        if (writer != null) {
+            writer.enqueue(event);
+            plantCache.invalidate(event.plantId());
+            fireCareRecorded(event.plantId(), event.eventType(), event.eventTime());
+            fireBufferedReschedule(event);
+            return new CareStatus(event.plantId(), event.eventType(), event.eventTime().toLocalDate(), null);
+        }
+
+        try {
+            // The same write the buffer flushes, then the status read back in the same transaction
+            CareStatus status = UnitOfWork.execute(conn -> {
+                writeCareEvents(conn, List.of(event));
+                return selectCareStatus(conn, event);
+            });
+            fireCareRecorded(event.plantId(), event.eventType(), event.eventTime());
+            if (status.nextDueDate() != null) {
+                fireReminderScheduled(event.plantId(), event.eventType(), status.nextDueDate());
+            }
+            return status;
+        } finally {
+            plantCache.invalidate(event.plantId());
+        }
+    }
 
-        // Create a new reminder based on the plant's fertilizing frequency
-        Plant plant = getPlantById(plantId);
+    /**
+     * Reads a plant's care status after a care event has been written
+     * @param conn The connection of the surrounding unit of work
+     * @param event The event that was written
+     * @return The stored last care date and the due date of the rescheduled reminder
+     * @throws SQLException If the plant does not exist or there's a database error
+     */
+    private static CareStatus selectCareStatus(Connection conn, PendingCareEvent event) throws SQLException {
+        try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.SELECT_CARE_STATUS)) {
+            stmt.setString(1, event.eventType());
+            stmt.setString(2, event.eventType());
+            stmt.setInt(3, event.plantId());
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    throw new SQLException("Plant not found with ID: " + event.plantId());
+                }
+                Date lastCareDate = rs.getDate("last_care_date");
+                Date nextDueDate = rs.getDate("next_due_date");
+                return new CareStatus(event.plantId(), event.eventType(),
+                        lastCareDate != null ? lastCareDate.toLocalDate() : null,
+                        nextDueDate != null ? nextDueDate.toLocalDate() : null);
+            }
+        }
+    }
+
+    /**
+     * Tells the reminder listeners about the reminder a buffered event will reschedule when it is flushed,
+     * due on the care date plus the plant's frequency as in UPSERT_REMINDER_FROM_FREQUENCY
+     * @param event The buffered watering or fertilizing event
+     * @throws SQLException If there's a database error
+     */
+    private void fireBufferedReschedule(PendingCareEvent event) throws SQLException {
+        if (reminderListeners.isEmpty()) {
+            return;
+        }
+        Plant plant = getPlantById(event.plantId());
         if (plant != null) {
-            // Remove existing fertilizing reminders
-            removeReminders(plantId, "Fertilizing");
-            // Create new fertilizing reminder
-            createFertilizingReminder(plant);
+            int frequency = "Watering".equals(event.eventType()) ?
+                    plant.getWateringFrequency() : plant.getFertilizingFrequency();
+            fireReminderScheduled(event.plantId(), event.eventType(),
+                    event.eventTime().toLocalDate().plusDays(frequency));
+        }
+    }
+
+    /**
+     * Records watering or fertilizing for many plants with a handful of set-based statements,
+     * so the cost barely depends on the number of plants
+     * @param plantIds The IDs of the plants cared for
+     * @param careType "Watering" or "Fertilizing"
+     * @return The care status of every plant cared for, ordered by plant ID
+     * @throws SQLException If there's a database error
+     */
+    @Override
+    public List<CareStatus> recordBulkCare(Collection<Integer> plantIds, String careType) throws SQLException {
+        if (plantIds.isEmpty()) {
+            return List.of();
+        }
+        return recordCareForTargets(careType, conn -> {
+            try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.INSERT_CARE_TARGET)) {
+                for (int plantId : plantIds) {
+                    stmt.setInt(1, plantId);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+        });
+    }
+
+    /**
+     * Records watering or fertilizing for every plant whose reminder for it is due,
+     * selecting the plants inside the same transaction
+     * @param careType "Watering" or "Fertilizing"
+     * @return The care status of every plant cared for, ordered by plant ID
+     * @throws SQLException If there's a database error
+     */
+    @Override
+    public List<CareStatus> recordCareForDuePlants(String careType) throws SQLException {
+        return recordCareForTargets(careType, conn -> {
+            try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.INSERT_DUE_CARE_TARGETS)) {
+                stmt.setString(1, careType);
+                stmt.setDate(2, Date.valueOf(LocalDate.now()));
+                stmt.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Collects the target plants in the care_targets temporary table, then writes their care events,
+     * last care dates and reminders with one statement each, in one transaction
+     * @param careType "Watering" or "Fertilizing"
+     * @param fillTargets Inserts the IDs of the plants to care for into care_targets
+     * @return The care status of every plant cared for, ordered by plant ID
+     * @throws SQLException If there's a database error
+     */
+    private List<CareStatus> recordCareForTargets(String careType, UnitOfWork.VoidWork fillTargets)
+            throws SQLException {
+        PlantSql advanceLastCare;
+        if ("Watering".equals(careType)) {
+            advanceLastCare = PlantSql.ADVANCE_TARGETS_LAST_WATERED;
+        } else if ("Fertilizing".equals(careType)) {
+            advanceLastCare = PlantSql.ADVANCE_TARGETS_LAST_FERTILIZED;
+        } else {
+            throw new IllegalArgumentException("Unknown care type: " + careType);
+        }
+
+        // Buffered single events are older, so they must not reschedule reminders after this
+        CareEventWriter writer = getCareEventWriter();
+        if (writer != null) {
+            writer.flush();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Date today = Date.valueOf(now.toLocalDate());
+        String notes = ("Watering".equals(careType) ? "Plant watered on " : "Plant fertilized on ") + now.toLocalDate();
+
+        List<CareStatus> statuses = UnitOfWork.execute(conn -> {
+            try (PreparedStatement create = StatementRegistry.prepare(conn, PlantSql.CREATE_CARE_TARGETS);
+                 PreparedStatement clear = StatementRegistry.prepare(conn, PlantSql.CLEAR_CARE_TARGETS)) {
+                // The table outlives the transaction on a pooled connection, so empty it first
+                create.executeUpdate();
+                clear.executeUpdate();
+            }
+            fillTargets.execute(conn);
+
+            try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.INSERT_TARGET_CARE_EVENTS)) {
+                stmt.setString(1, careType);
+                stmt.setTimestamp(2, Timestamp.valueOf(now));
+                stmt.setString(3, notes);
+                stmt.executeUpdate();
+            }
+            try (PreparedStatement stmt = StatementRegistry.prepare(conn, advanceLastCare)) {
+                stmt.setDate(1, today);
+                stmt.setDate(2, today);
+                stmt.executeUpdate();
+            }
+            try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.UPSERT_TARGET_REMINDERS)) {
+                stmt.setString(1, careType);
+                stmt.setDate(2, today);
+                stmt.setString(3, careType);
+                stmt.executeUpdate();
+            }
+
+            List<CareStatus> result = new ArrayList<>();
+            try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.SELECT_TARGET_CARE_STATUS)) {
+                stmt.setString(1, careType);
+                stmt.setDate(2, today);
+                stmt.setString(3, careType);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        Date lastCareDate = rs.getDate("last_care_date");
+                        result.add(new CareStatus(rs.getInt("id"), careType,
+                                lastCareDate != null ? lastCareDate.toLocalDate() : null,
+                                rs.getDate("next_due_date").toLocalDate()));
+                    }
+                }
+            }
+            return result;
+        });
+
+        for (CareStatus status : statuses) {
+            plantCache.invalidate(status.plantId());
+            fireCareRecorded(status.plantId(), careType, now);
+            fireReminderScheduled(status.plantId(), careType, status.nextDueDate());
+        }
+        return statuses;
+    }
+
+    /**
+     * Writes watering and fertilizing events together with their last care dates and
+     * rescheduled reminders; also used by the write-behind buffer to flush a whole batch
+     * @param conn The connection of the surrounding unit of work
+     * @param events The events to write
+     * @throws SQLException If there's a database error
+     */
+    private void writeCareEvents(Connection conn, List<PendingCareEvent> events) throws SQLException {
+        List<PendingCareEvent> ordered = new ArrayList<>(events);
+        ordered.sort(Comparator.comparing(PendingCareEvent::eventTime));
+
+        insertCareEvents(conn, ordered);
+        updateLastCareDates(conn, ordered);
+        rescheduleReminders(conn, ordered);
+    }
+
+    /**
+     * Returns the shared write-behind buffer, creating it on first use.
+     * @return The buffer, or null when db.writeBehind.enabled is false or the buffer has been shut down
+     */
+    private static synchronized CareEventWriter getCareEventWriter() {
+        // Care recorded while the application closes is written directly, not into a buffer nobody flushes
+        if (careEventWriter == null && !writeBehindShutDown
+                && DatabaseUtil.getBooleanProperty("db.writeBehind.enabled", false)) {
+            PlantDAO flushingDao = new PlantDAO();
+            careEventWriter = new CareEventWriter(
+                    events -> {
+                        UnitOfWork.run(conn -> flushingDao.writeCareEvents(conn, events));
+                        // Drop anything read from the database between enqueue and flush
+                        for (PendingCareEvent event : events) {
+                            plantCache.invalidate(event.plantId());
+                        }
+                    },
+                    DatabaseUtil.getIntProperty("db.writeBehind.capacity", 1000),
+                    DatabaseUtil.getIntProperty("db.writeBehind.batchSize", 100),
+                    DatabaseUtil.getIntProperty("db.writeBehind.flushIntervalMillis", 500),
+                    DatabaseUtil.getIntProperty("db.writeBehind.enqueueTimeoutMillis", 100));
+        }
+        return writeBehindShutDown ? null : careEventWriter;
+    }
+
+    /**
+     * @return The shared plant cache, for its hit / miss / eviction counters
+     */
+    public static PlantCache getPlantCache() {
+        return plantCache;
+    }
+
+    @Override
+    public void shutdown() throws SQLException {
+        shutdownWriteBehind();
+    }
+
+    /**
+     * Writes all buffered care events and stops the write-behind buffer for good, called when the
+     * application exits; care recorded afterwards is written synchronously
+     * @throws SQLException If the buffered events cannot be written
+     */
+    public static synchronized void shutdownWriteBehind() throws SQLException {
+        writeBehindShutDown = true;
+        if (careEventWriter != null) {
+            // Kept if the final flush fails, so calling this again retries it
+            careEventWriter.shutdown();
+            careEventWriter = null;
         }
     }
 
     /**
-     * Removes reminders of a specific type for a plant
+     * Retrieves one page of a plant's care history, newest first.
+     * Uses keyset pagination on (event_date, id), so every page is a short range scan of
+     * idx_care_events_plant_date however far back the history goes.
      * @param plantId The ID of the plant
-     * @param careType The type of care reminder
+     * @param from The earliest event time included
+     * @param to The latest event time included
+     * @param after The last event of the previous page, or null for the first page
+     * @param limit The maximum number of events to return
+     * @return The next page of events; fewer than limit means there are no more
      * @throws SQLException If there's a database error
      */
-    private void removeReminders(int plantId, String careType) throws SQLException {
-        String sql = "DELETE FROM reminders WHERE plant_id = ? AND care_type = ?";
+    @Override
+    public List<CareEvent> getCareHistory(int plantId, LocalDateTime from, LocalDateTime to,
+                                          CareEvent after, int limit) throws SQLException {
+        List<CareEvent> events = new ArrayList<>(Math.min(limit, 256));
+        // The first page starts at the end of the range, events at exactly `to` included
+        Timestamp before = Timestamp.valueOf(after != null ? after.eventDate() : to);
+        int beforeId = after != null ? after.id() : Integer.MAX_VALUE;
 
         try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.SELECT_CARE_HISTORY)) {
 
             stmt.setInt(1, plantId);
-            stmt.setString(2, careType);
+            stmt.setTimestamp(2, Timestamp.valueOf(from));
+            stmt.setTimestamp(3, before);
+            stmt.setTimestamp(4, before);
+            stmt.setInt(5, beforeId);
+            stmt.setInt(6, limit);
 
-            stmt.executeUpdate();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    events.add(new CareEvent(rs.getInt("id"), rs.getInt("plant_id"), rs.getString("event_type"),
+                            rs.getTimestamp("event_date").toLocalDateTime(), rs.getString("notes")));
+                }
+            }
         }
+
+        return events;
+    }
+
+    /**
+     * Retrieves the monthly rollups of a plant's compacted care history
+     * @param plantId The ID of the plant
+     * @return The plant's monthly summaries, newest month first
+     * @throws SQLException If there's a database error
+     */
+    @Override
+    public List<CareSummary> getCareSummaries(int plantId) throws SQLException {
+        List<CareSummary> summaries = new ArrayList<>();
+
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.SELECT_CARE_SUMMARIES)) {
+
+            stmt.setInt(1, plantId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    summaries.add(new CareSummary(rs.getInt("plant_id"), rs.getString("event_type"),
+                            YearMonth.from(rs.getDate("month").toLocalDate()), rs.getInt("event_count"),
+                            rs.getTimestamp("first_event").toLocalDateTime(),
+                            rs.getTimestamp("last_event").toLocalDateTime()));
+                }
+            }
+        }
+
+        return summaries;
+    }
+
+    /**
+     * Folds the oldest batch of events before the cutoff into care_event_monthly and deletes them.
+     * Both statements cover the same ID range in one transaction, so an interrupted run either
+     * compacts the whole batch or leaves it untouched, and a later run simply continues.
+     * @param cutoff Events before this time are compacted
+     * @param batchSize The maximum number of events compacted
+     * @return The number of events compacted; fewer than batchSize means none are left
+     * @throws SQLException If there's a database error
+     */
+    @Override
+    public int compactCareEvents(LocalDateTime cutoff, int batchSize) throws SQLException {
+        Timestamp before = Timestamp.valueOf(cutoff);
+        return UnitOfWork.execute(conn -> {
+            int bound;
+            try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.SELECT_COMPACTION_BOUND)) {
+                stmt.setTimestamp(1, before);
+                stmt.setInt(2, batchSize);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    rs.next();
+                    bound = rs.getInt("bound");
+                    if (rs.wasNull()) {
+                        return 0;
+                    }
+                }
+            }
+
+            try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.ROLL_UP_CARE_EVENTS)) {
+                stmt.setTimestamp(1, before);
+                stmt.setInt(2, bound);
+                stmt.executeUpdate();
+            }
+            try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.DELETE_COMPACTED_CARE_EVENTS)) {
+                stmt.setTimestamp(1, before);
+                stmt.setInt(2, bound);
+                return stmt.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Streams care events oldest first. The result set is read row by row from the server
+     * (fetch size Integer.MIN_VALUE), so a full pass over care_events needs constant memory.
+     * @param from The earliest event time included
+     * @param consumer Receives each event in turn; notes are not read
+     * @throws SQLException If there's a database error
+     */
+    @Override
+    public void streamCareEvents(LocalDateTime from, Consumer<CareEvent> consumer) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.STREAM_CARE_EVENTS)) {
+
+            stmt.setTimestamp(1, Timestamp.valueOf(from));
+            stmt.setFetchSize(Integer.MIN_VALUE);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    consumer.accept(new CareEvent(rs.getInt("id"), rs.getInt("plant_id"), rs.getString("event_type"),
+                            rs.getTimestamp("event_date").toLocalDateTime(), null));
+                }
+            }
+        }
+    }
+
+    /**
+     * Streams the monthly rollups and then the remaining events in one transaction.
+     * Under InnoDB's repeatable-read isolation both queries read the same snapshot,
+     * so a batch compacted in between is neither missed nor read twice.
+     * @param summaries Receives each monthly rollup in turn
+     * @param events Receives each remaining event in turn
+     * @throws SQLException If there's a database error
+     */
+    @Override
+    public void streamCareHistory(Consumer<CareSummary> summaries, Consumer<CareEvent> events) throws SQLException {
+        UnitOfWork.run(conn -> {
+            try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.STREAM_CARE_SUMMARIES)) {
+                stmt.setFetchSize(Integer.MIN_VALUE);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        summaries.accept(new CareSummary(rs.getInt("plant_id"), rs.getString("event_type"),
+                                YearMonth.from(rs.getDate("month").toLocalDate()), rs.getInt("event_count"),
+                                rs.getTimestamp("first_event").toLocalDateTime(),
+                                rs.getTimestamp("last_event").toLocalDateTime()));
+                    }
+                }
+            }
+
+            try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.STREAM_CARE_EVENTS)) {
+                stmt.setTimestamp(1, Timestamp.valueOf(LocalDate.EPOCH.atStartOfDay()));
+                stmt.setFetchSize(Integer.MIN_VALUE);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        events.accept(new CareEvent(rs.getInt("id"), rs.getInt("plant_id"),
+                                rs.getString("event_type"), rs.getTimestamp("event_date").toLocalDateTime(), null));
+                    }
+                }
+            }
+        });
+    }
+
+    @Override
+    public void addCareEventListener(CareEventListener listener) {
+        careEventListeners.add(listener);
+    }
+
+    @Override
+    public AdherenceCheckpoint loadAdherenceCheckpoint() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            LocalDateTime takenAt;
+            try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.SELECT_ADHERENCE_CHECKPOINT_TIME);
+                 ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                takenAt = rs.getTimestamp("taken_at").toLocalDateTime();
+            }
+
+            List<AdherenceStats> stats = new ArrayList<>();
+            try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.SELECT_ALL_ADHERENCE);
+                 ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    stats.add(new AdherenceStats(rs.getInt("plant_id"), rs.getString("care_type"),
+                            rs.getDate("last_care_date").toLocalDate(), rs.getInt("intervals"),
+                            rs.getInt("on_time"), rs.getLong("lateness_days"),
+                            rs.getInt("current_streak"), rs.getInt("longest_streak")));
+                }
+            }
+            return new AdherenceCheckpoint(takenAt, stats);
+        }
+    }
+
+    /**
+     * Saves adherence statistics; the changed rows are written as one batch and the checkpoint
+     * time is only moved forward if they all are
+     * @param takenAt When the statistics were taken
+     * @param changed The stats that changed since the last checkpoint
+     * @param replaceAll True to drop every saved stat first, after a rebuild
+     * @throws SQLException If there's a database error
+     */
+    @Override
+    public void saveAdherenceCheckpoint(LocalDateTime takenAt, Collection<AdherenceStats> changed,
+                                        boolean replaceAll) throws SQLException {
+        UnitOfWork.run(conn -> {
+            if (replaceAll) {
+                try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.DELETE_ALL_ADHERENCE)) {
+                    stmt.executeUpdate();
+                }
+            }
+
+            try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.UPSERT_ADHERENCE)) {
+                for (AdherenceStats stats : changed) {
+                    stmt.setString(1, stats.careType());
+                    stmt.setDate(2, Date.valueOf(stats.lastCareDate()));
+                    stmt.setInt(3, stats.intervals());
+                    stmt.setInt(4, stats.onTime());
+                    stmt.setLong(5, stats.latenessDays());
+                    stmt.setInt(6, stats.currentStreak());
+                    stmt.setInt(7, stats.longestStreak());
+                    stmt.setInt(8, stats.plantId());
+                    stmt.addBatch();
+                }
+                if (!changed.isEmpty()) {
+                    stmt.executeBatch();
+                }
+            }
+
+            try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.UPSERT_ADHERENCE_CHECKPOINT_TIME)) {
+                stmt.setTimestamp(1, Timestamp.valueOf(takenAt));
+                stmt.executeUpdate();
+            }
+        });
     }
 
     /**
@@ -267,10 +1007,13 @@ public class PlantDAO {
      * @param date The date when the plant was watered
      * @throws SQLException If there's a database error
      */
+    @Override
     public void updateLastWatered(int plantId, LocalDate date) throws SQLException {
-        // For a complete implementation, we would store these dates in the database
-        // For now, this is a placeholder
-        // The actual dates are stored as care events in the care_events table
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            updateLastCareDate(conn, PlantSql.UPDATE_LAST_WATERED, plantId, date);
+        } finally {
+            plantCache.invalidate(plantId);
+        }
     }
 
     /**
@@ -279,28 +1022,100 @@ public class PlantDAO {
      * @param date The date when the plant was fertilized
      * @throws SQLException If there's a database error
      */
+    @Override
     public void updateLastFertilized(int plantId, LocalDate date) throws SQLException {
-        // For a complete implementation, we would store these dates in the database
-        // For now, this is a placeholder
-        // The actual dates are stored as care events in the care_events table
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            updateLastCareDate(conn, PlantSql.UPDATE_LAST_FERTILIZED, plantId, date);
+        } finally {
+            plantCache.invalidate(plantId);
+        }
+    }
+
+    /**
+     * Runs one of the last care date updates
+     * @param conn The connection to run on
+     * @param sql The UPDATE statement, taking the date and the plant ID
+     * @param plantId The ID of the plant
+     * @param date The care date to store
+     * @throws SQLException If there's a database error
+     */
+    private void updateLastCareDate(Connection conn, PlantSql sql, int plantId, LocalDate date) throws SQLException {
+        try (PreparedStatement stmt = StatementRegistry.prepare(conn, sql)) {
+
+            stmt.setDate(1, Date.valueOf(date));
+            stmt.setInt(2, plantId);
+
+            stmt.executeUpdate();
+        }
     }
 
     /**
-     * Deletes a plant from the database
+     * Deletes a plant from the database and releases its photo if no other plant uses it
      * @param id The ID of the plant to delete
      * @throws SQLException If there's a database error
      */
+    @Override
     public void deletePlant(int id) throws SQLException {
         // We don't need to manually delete care_events and reminders because
         // the ON DELETE CASCADE constraint in the foreign keys will handle that
-        String sql = "DELETE FROM plants WHERE id = ?";
+        String orphanedImage;
+        try {
+            orphanedImage = UnitOfWork.execute(conn -> {
+                String image = selectImagePath(conn, id);
 
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+                try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.DELETE_PLANT)) {
+                    stmt.setInt(1, id);
+
+                    stmt.executeUpdate();
+                }
+
+                return image;
+            });
+        } finally {
+            plantCache.invalidate(id);
+        }
+
+        for (ReminderListener listener : reminderListeners) {
+            listener.remindersRemoved(id);
+        }
+        for (CareEventListener listener : careEventListeners) {
+            listener.plantRemoved(id);
+        }
+
+        // Only counted and deleted once the row pointing at it is gone for good
+        if (orphanedImage != null) {
+            ImageStore.release(orphanedImage, this::countImageReferences);
+        }
+    }
 
+    @Override
+    public int countImageReferences(String imagePath) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            return countImageReferences(conn, imagePath);
+        }
+    }
+
+    private static int countImageReferences(Connection conn, String imagePath) throws SQLException {
+        try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.COUNT_IMAGE_REFERENCES)) {
+            stmt.setString(1, imagePath);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    /**
+     * @return The plant's image path, or null if it has none or does not exist
+     */
+    private static String selectImagePath(Connection conn, int id) throws SQLException {
+        try (PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.SELECT_IMAGE_PATH)) {
             stmt.setInt(1, id);
 
-            stmt.executeUpdate();
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getString("image_path") : null;
+            }
         }
     }
 
@@ -310,12 +1125,12 @@ public class PlantDAO {
      * @return List of all reminders for the plant
      * @throws SQLException If there's a database error
      */
+    @Override
     public List<Map<String, Object>> getRemindersForPlant(int plantId) throws SQLException {
         List<Map<String, Object>> reminders = new ArrayList<>();
-        String sql = "SELECT * FROM reminders WHERE plant_id = ? AND is_completed = false ORDER BY due_date";
 
         try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.SELECT_PENDING_REMINDERS_FOR_PLANT)) {
 
             stmt.setInt(1, plantId);
 
@@ -335,6 +1150,68 @@ public class PlantDAO {
         return reminders;
     }
 
+    /**
+     * Gets the pending reminders of all plants falling due in a date range.
+     * Served by one range scan of idx_reminders_due, which also provides the order.
+     * @param from The first due date included
+     * @param to The last due date included
+     * @param limit The maximum number of reminders to return
+     * @return The reminders, ordered by due date
+     * @throws SQLException If there's a database error
+     */
+    @Override
+    public List<Reminder> getDueReminders(LocalDate from, LocalDate to, int limit) throws SQLException {
+        List<Reminder> reminders = new ArrayList<>(Math.min(limit, 256));
+
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.SELECT_DUE_REMINDERS)) {
+
+            stmt.setDate(1, Date.valueOf(from));
+            stmt.setDate(2, Date.valueOf(to));
+            stmt.setInt(3, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    reminders.add(mapResultSetToReminder(rs));
+                }
+            }
+        }
+
+        return reminders;
+    }
+
+    /**
+     * Gets every pending reminder in one query. The rows are buffered into a list rather than streamed:
+     * the reminder scheduler keeps every pending reminder in memory anyway.
+     * @return All pending reminders
+     * @throws SQLException If there's a database error
+     */
+    @Override
+    public List<Reminder> getPendingReminders() throws SQLException {
+        List<Reminder> reminders = new ArrayList<>();
+
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = StatementRegistry.prepare(conn, PlantSql.SELECT_ALL_PENDING_REMINDERS);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                reminders.add(mapResultSetToReminder(rs));
+            }
+        }
+
+        return reminders;
+    }
+
+    @Override
+    public void addReminderListener(ReminderListener listener) {
+        reminderListeners.add(listener);
+    }
+
+    private static Reminder mapResultSetToReminder(ResultSet rs) throws SQLException {
+        return new Reminder(rs.getInt("id"), rs.getInt("plant_id"),
+                rs.getString("care_type"), rs.getDate("due_date").toLocalDate());
+    }
+
     /**
      * Maps a ResultSet row to a Plant object
      * @param rs The ResultSet containing plant data
@@ -359,50 +1236,18 @@ public class PlantDAO {
         plant.setImagepath(rs.getString("image_path"));
         plant.setNotes(rs.getString("notes"));
 
-        // Set last watered and fertilized dates based on care events
-        setPlantCareHistory(plant);
-
-        return plant;
-    }
+        // Last care dates are stored on the plant row; plants that have never been
+        // cared for fall back to their acquisition date
+        Date lastWatered = rs.getDate("last_watered");
+        plant.setLastWatered(lastWatered != null ? lastWatered.toLocalDate() : plant.getDateAcquired());
 
-    /**
-     * Sets the last watered and fertilized dates for a plant based on care events
-     * @param plant The plant to update
-     * @throws SQLException If there's a database error
-     */
-    private void setPlantCareHistory(Plant plant) throws SQLException {
-        // Get the most recent watering event
-        String waterSql = "SELECT MAX(event_date) as last_date FROM care_events " +
-                "WHERE plant_id = ? AND event_type = 'Watering'";
+        Date lastFertilized = rs.getDate("last_fertilized");
+        plant.setLastFertilized(lastFertilized != null ? lastFertilized.toLocalDate() : plant.getDateAcquired());
 
-        // Get the most recent fertilizing event
-        String fertilizeSql = "SELECT MAX(event_date) as last_date FROM care_events " +
-                "WHERE plant_id = ? AND event_type = 'Fertilizing'";
+        // Change marker used to refresh the dashboard incrementally
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        plant.setUpdatedAt(updatedAt != null ? updatedAt.toLocalDateTime() : null);
 
-        try (Connection conn = DatabaseUtil.getConnection()) {
-            // Process watering
-            try (PreparedStatement stmt = conn.prepareStatement(waterSql)) {
-                stmt.setInt(1, plant.getId());
-                try (ResultSet rs = stmt.executeQuery()) {
-                    if (rs.next() && rs.getTimestamp("last_date") != null) {
-                        plant.setLastWatered(rs.getTimestamp("last_date").toLocalDateTime().toLocalDate());
-                    } else {
-                        plant.setLastWatered(plant.getDateAcquired());
-                    }
-                }
-            }
-
-            // Process fertilizing
-            try (PreparedStatement stmt = conn.prepareStatement(fertilizeSql)) {
-                stmt.setInt(1, plant.getId());
-                try (ResultSet rs = stmt.executeQuery()) {
-                    if (rs.next() && rs.getTimestamp("last_date") != null) {
-                        plant.setLastFertilized(rs.getTimestamp("last_date").toLocalDateTime().toLocalDate());
-                    } else {
-                        plant.setLastFertilized(plant.getDateAcquired());
-                    }
-                }
-            }
-        }
+        return plant;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,282 @@
+package org.example.plantbuddy.dao;
+
+import org.example.plantbuddy.model.AdherenceCheckpoint;
+import org.example.plantbuddy.model.AdherenceStats;
+import org.example.plantbuddy.model.CareEvent;
+import org.example.plantbuddy.model.CareStatus;
+import org.example.plantbuddy.model.CareSummary;
+import org.example.plantbuddy.model.Plant;
+import org.example.plantbuddy.model.Reminder;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Storage for plants, their care events and their reminders.
+ * {@link PlantDAO} stores them in MySQL, {@link InMemoryPlantRepository} keeps them in memory.
+ */
+public interface PlantRepository {
+
+    /**
+     * Adds a new plant together with its initial care event and reminders
+     * @param plant The plant object to be added
+     * @return The ID of the newly added plant
+     * @throws SQLException If there's a database error
+     */
+    int addPlant(Plant plant) throws SQLException;
+
+    /**
+     * Adds many plants at once using the repository's default chunk size
+     * @param plants The plants to add; their IDs are set once inserted
+     * @return The IDs of the new plants, in iteration order
+     * @throws SQLException If there's a database error
+     */
+    List<Integer> addPlants(Collection<Plant> plants) throws SQLException;
+
+    /**
+     * Adds many plants at once
+     * @param plants The plants to add; their IDs are set once inserted
+     * @param chunkSize The number of plants written per transaction
+     * @param listener Notified after each chunk, may be null
+     * @return The IDs of the new plants, in iteration order
+     * @throws SQLException If there's a database error
+     */
+    List<Integer> addPlants(Collection<Plant> plants, int chunkSize,
+                            ImportProgressListener listener) throws SQLException;
+
+    /**
+     * Retrieves all plants
+     * @return List of all plants
+     * @throws SQLException If there's a database error
+     */
+    List<Plant> getAllPlants() throws SQLException;
+
+    /**
+     * Retrieves one page of plants ordered by ID, starting after the given ID
+     * @param lastId The ID of the last plant on the previous page, or 0 for the first page
+     * @param limit The maximum number of plants to return
+     * @return The next page of plants; fewer than limit means there are no more
+     * @throws SQLException If there's a database error
+     */
+    List<Plant> getPlantsAfter(int lastId, int limit) throws SQLException;
+
+    /**
+     * Retrieves a plant by its ID
+     * @param id The ID of the plant
+     * @return The plant, or null if not found
+     * @throws SQLException If there's a database error
+     */
+    Plant getPlantById(int id) throws SQLException;
+
+    /**
+     * Updates an existing plant; a stored photo it no longer uses is deleted if no other plant uses it
+     * @param plant The plant to update
+     * @throws SQLException If there's a database error
+     */
+    void updatePlant(Plant plant) throws SQLException;
+
+    /**
+     * Deletes a plant along with its care events and reminders,
+     * and its stored photo if no other plant uses it
+     * @param id The ID of the plant to delete
+     * @throws SQLException If there's a database error
+     */
+    void deletePlant(int id) throws SQLException;
+
+    /**
+     * Adds a care event for a plant
+     * @param plantId The ID of the plant
+     * @param eventType The type of event
+     * @param notes Any notes about the event
+     * @throws SQLException If there's a database error
+     */
+    void addCareEvent(int plantId, String eventType, String notes) throws SQLException;
+
+    /**
+     * Records a watering event, updates the last watered date and reschedules the watering reminder
+     * @param plantId The ID of the plant
+     * @return The plant's watering status after the event
+     * @throws SQLException If there's a database error
+     */
+    CareStatus waterPlant(int plantId) throws SQLException;
+
+    /**
+     * Records a fertilizing event, updates the last fertilized date and reschedules the fertilizing reminder
+     * @param plantId The ID of the plant
+     * @return The plant's fertilizing status after the event
+     * @throws SQLException If there's a database error
+     */
+    CareStatus fertilizePlant(int plantId) throws SQLException;
+
+    /**
+     * Records watering or fertilizing for many plants at once, rescheduling their reminders,
+     * in one transaction; IDs of plants that do not exist are ignored
+     * @param plantIds The IDs of the plants cared for
+     * @param careType "Watering" or "Fertilizing"
+     * @return The care status of every plant cared for, ordered by plant ID
+     * @throws SQLException If there's a database error
+     */
+    List<CareStatus> recordBulkCare(Collection<Integer> plantIds, String careType) throws SQLException;
+
+    /**
+     * Records watering or fertilizing for every plant whose reminder for it is due today or overdue
+     * @param careType "Watering" or "Fertilizing"
+     * @return The care status of every plant cared for, ordered by plant ID
+     * @throws SQLException If there's a database error
+     */
+    List<CareStatus> recordCareForDuePlants(String careType) throws SQLException;
+
+    /**
+     * Retrieves one page of a plant's care history, newest first
+     * @param plantId The ID of the plant
+     * @param from The earliest event time included
+     * @param to The latest event time included
+     * @param after The last event of the previous page, or null for the first page
+     * @param limit The maximum number of events to return
+     * @return The next page of events; fewer than limit means there are no more
+     * @throws SQLException If there's a database error
+     */
+    List<CareEvent> getCareHistory(int plantId, LocalDateTime from, LocalDateTime to,
+                                   CareEvent after, int limit) throws SQLException;
+
+    /**
+     * Retrieves the monthly rollups of a plant's compacted care history, newest month first
+     * @param plantId The ID of the plant
+     * @return The plant's monthly summaries
+     * @throws SQLException If there's a database error
+     */
+    List<CareSummary> getCareSummaries(int plantId) throws SQLException;
+
+    /**
+     * Folds one batch of the oldest care events before the cutoff into the monthly rollups
+     * and deletes them, in one transaction
+     * @param cutoff Events before this time are compacted
+     * @param batchSize The maximum number of events compacted
+     * @return The number of events compacted; fewer than batchSize means none are left
+     * @throws SQLException If there's a database error
+     */
+    int compactCareEvents(LocalDateTime cutoff, int batchSize) throws SQLException;
+
+    /**
+     * Reads every care event from a point in time on, oldest first, without holding them all in memory
+     * @param from The earliest event time included
+     * @param consumer Receives each event in turn; notes are not read
+     * @throws SQLException If there's a database error
+     */
+    void streamCareEvents(LocalDateTime from, Consumer<CareEvent> consumer) throws SQLException;
+
+    /**
+     * Reads the whole care history without holding it in memory: every compacted month oldest first,
+     * then every remaining event oldest first. Both are read from one consistent view, so an event
+     * compacted while reading is seen exactly once.
+     * @param summaries Receives each monthly rollup in turn
+     * @param events Receives each remaining event in turn; notes are not read
+     * @throws SQLException If there's a database error
+     */
+    void streamCareHistory(Consumer<CareSummary> summaries, Consumer<CareEvent> events) throws SQLException;
+
+    /**
+     * Registers a listener notified whenever a care event is recorded or a plant is deleted
+     * @param listener The listener; it is called on the thread that made the change
+     */
+    void addCareEventListener(CareEventListener listener);
+
+    /**
+     * Reads the last saved adherence statistics
+     * @return The checkpoint, or null if none has been saved yet
+     * @throws SQLException If there's a database error
+     */
+    AdherenceCheckpoint loadAdherenceCheckpoint() throws SQLException;
+
+    /**
+     * Saves adherence statistics in one transaction
+     * @param takenAt When the statistics were taken
+     * @param changed The stats that changed since the last checkpoint
+     * @param replaceAll True to drop every saved stat first, after a rebuild
+     * @throws SQLException If there's a database error
+     */
+    void saveAdherenceCheckpoint(LocalDateTime takenAt, Collection<AdherenceStats> changed,
+                                 boolean replaceAll) throws SQLException;
+
+    /**
+     * Updates the last watered date for a plant
+     * @param plantId The ID of the plant
+     * @param date The date when the plant was watered
+     * @throws SQLException If there's a database error
+     */
+    void updateLastWatered(int plantId, LocalDate date) throws SQLException;
+
+    /**
+     * Updates the last fertilized date for a plant
+     * @param plantId The ID of the plant
+     * @param date The date when the plant was fertilized
+     * @throws SQLException If there's a database error
+     */
+    void updateLastFertilized(int plantId, LocalDate date) throws SQLException;
+
+    /**
+     * Creates a watering reminder for a plant
+     * @param plant The plant to create the reminder for
+     * @throws SQLException If there's a database error
+     */
+    void createWateringReminder(Plant plant) throws SQLException;
+
+    /**
+     * Creates a fertilizing reminder for a plant
+     * @param plant The plant to create the reminder for
+     * @throws SQLException If there's a database error
+     */
+    void createFertilizingReminder(Plant plant) throws SQLException;
+
+    /**
+     * Gets all pending reminders for a specific plant, soonest first
+     * @param plantId The ID of the plant
+     * @return List of all reminders for the plant
+     * @throws SQLException If there's a database error
+     */
+    List<Map<String, Object>> getRemindersForPlant(int plantId) throws SQLException;
+
+    /**
+     * Gets the pending reminders of all plants falling due in a date range, soonest first
+     * @param from The first due date included
+     * @param to The last due date included
+     * @param limit The maximum number of reminders to return
+     * @return The reminders, ordered by due date
+     * @throws SQLException If there's a database error
+     */
+    List<Reminder> getDueReminders(LocalDate from, LocalDate to, int limit) throws SQLException;
+
+    /**
+     * Gets every pending reminder of every plant, in no particular order
+     * @return All pending reminders
+     * @throws SQLException If there's a database error
+     */
+    List<Reminder> getPendingReminders() throws SQLException;
+
+    /**
+     * Registers a listener notified whenever a reminder is created, rescheduled or removed
+     * @param listener The listener; it is called on the thread that made the change
+     */
+    void addReminderListener(ReminderListener listener);
+
+    /**
+     * Counts the plants whose image_path is the given photo
+     * @param imagePath The photo's path
+     * @return The number of plants referencing the photo
+     * @throws SQLException If there's a database error
+     */
+    int countImageReferences(String imagePath) throws SQLException;
+
+    /**
+     * Writes anything the repository still buffers and releases its resources,
+     * called when the application exits
+     * @throws SQLException If buffered data cannot be written
+     */
+    default void shutdown() throws SQLException {
+    }
+}
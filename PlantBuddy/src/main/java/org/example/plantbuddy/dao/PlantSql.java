@@ -0,0 +1,146 @@
+package org.example.plantbuddy.dao;
+
+import java.sql.Statement;
+
+/**
+ * Every SQL statement issued by {@link PlantDAO}.
+ * Statements are prepared through {@link StatementRegistry}, which reuses them per pooled connection.
+ */
+public enum PlantSql {
+    // Plants
+    INSERT_PLANT("INSERT INTO plants (name, species, location, light_needs, acquisition_date, " +
+            "watering_frequency, fertilizing_frequency, image_path, notes) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", true),
+    SELECT_ALL_PLANTS("SELECT * FROM plants"),
+    SELECT_PLANTS_AFTER("SELECT * FROM plants WHERE id > ? ORDER BY id LIMIT ?"),
+    SELECT_PLANT_BY_ID("SELECT * FROM plants WHERE id = ?"),
+    UPDATE_PLANT("UPDATE plants SET name = ?, species = ?, location = ?, " +
+            "light_needs = ?, acquisition_date = ?, watering_frequency = ?, " +
+            "fertilizing_frequency = ?, image_path = ?, notes = ? " +
+            "WHERE id = ?"),
+    DELETE_PLANT("DELETE FROM plants WHERE id = ?"),
+    SELECT_IMAGE_PATH("SELECT image_path FROM plants WHERE id = ?"),
+    // The reference count of a stored photo; served from idx_plants_image_path
+    COUNT_IMAGE_REFERENCES("SELECT COUNT(*) FROM plants WHERE image_path = ?"),
+    UPDATE_LAST_WATERED("UPDATE plants SET last_watered = ? WHERE id = ?"),
+    UPDATE_LAST_FERTILIZED("UPDATE plants SET last_fertilized = ? WHERE id = ?"),
+    // GREATEST keeps the newest date even if events arrive out of order
+    ADVANCE_LAST_WATERED("UPDATE plants SET last_watered = GREATEST(COALESCE(last_watered, ?), ?) WHERE id = ?"),
+    ADVANCE_LAST_FERTILIZED("UPDATE plants SET last_fertilized = GREATEST(COALESCE(last_fertilized, ?), ?) WHERE id = ?"),
+
+    // Care events
+    INSERT_CARE_EVENT("INSERT INTO care_events (plant_id, event_type, event_date, notes) " +
+            "VALUES (?, ?, ?, ?)"),
+    INSERT_INITIAL_CARE_EVENT("INSERT INTO care_events (plant_id, event_type, event_date, notes) " +
+            "VALUES (?, 'Initial Setup', NOW(), 'Plant added to system')"),
+    // Read back after a care write in the same transaction: the stored last care date and the rescheduled reminder
+    SELECT_CARE_STATUS("SELECT CASE WHEN ? = 'Watering' THEN p.last_watered ELSE p.last_fertilized END " +
+            "AS last_care_date, r.due_date AS next_due_date " +
+            "FROM plants p LEFT JOIN reminders r ON r.plant_id = p.id AND r.care_type = ? WHERE p.id = ?"),
+    // Newest first, one page at a time: keyset on (event_date, id) served by idx_care_events_plant_date
+    SELECT_CARE_HISTORY("SELECT id, plant_id, event_type, event_date, notes FROM care_events " +
+            "WHERE plant_id = ? AND event_date >= ? AND (event_date < ? OR (event_date = ? AND id < ?)) " +
+            "ORDER BY event_date DESC, id DESC LIMIT ?"),
+    SELECT_CARE_SUMMARIES("SELECT plant_id, event_type, month, event_count, first_event, last_event " +
+            "FROM care_event_monthly WHERE plant_id = ? ORDER BY month DESC, event_type"),
+    // Compaction works on the oldest events first, a batch of IDs at a time
+    SELECT_COMPACTION_BOUND("SELECT MAX(id) AS bound FROM " +
+            "(SELECT id FROM care_events WHERE event_date < ? ORDER BY id LIMIT ?) batch"),
+    ROLL_UP_CARE_EVENTS("INSERT INTO care_event_monthly " +
+            "(plant_id, event_type, month, event_count, first_event, last_event) " +
+            "SELECT plant_id, event_type, CAST(DATE_FORMAT(event_date, '%Y-%m-01') AS DATE), " +
+            "COUNT(*), MIN(event_date), MAX(event_date) " +
+            "FROM care_events WHERE event_date < ? AND id <= ? " +
+            "GROUP BY plant_id, event_type, CAST(DATE_FORMAT(event_date, '%Y-%m-01') AS DATE) " +
+            "ON DUPLICATE KEY UPDATE event_count = event_count + VALUES(event_count), " +
+            "first_event = LEAST(first_event, VALUES(first_event)), " +
+            "last_event = GREATEST(last_event, VALUES(last_event))"),
+    // Streamed in event order to rebuild or catch up adherence statistics; notes are not needed
+    STREAM_CARE_EVENTS("SELECT id, plant_id, event_type, event_date FROM care_events " +
+            "WHERE event_date >= ? ORDER BY event_date, id"),
+    // Every compacted month, oldest first, read before the remaining events when statistics are rebuilt;
+    // within a month a plant's initial setup comes first, since it is the baseline of its care
+    STREAM_CARE_SUMMARIES("SELECT plant_id, event_type, month, event_count, first_event, last_event " +
+            "FROM care_event_monthly ORDER BY month, plant_id, event_type <> 'Initial Setup', event_type"),
+    DELETE_COMPACTED_CARE_EVENTS("DELETE FROM care_events WHERE event_date < ? AND id <= ?"),
+
+    // Bulk care: the plants to care for are collected in a per-connection temporary table,
+    // then every step is a single statement joined against it
+    CREATE_CARE_TARGETS("CREATE TEMPORARY TABLE IF NOT EXISTS care_targets (plant_id INT PRIMARY KEY)"),
+    CLEAR_CARE_TARGETS("DELETE FROM care_targets"),
+    // Batched; rewriteBatchedStatements sends it as one multi-row INSERT
+    INSERT_CARE_TARGET("INSERT IGNORE INTO care_targets (plant_id) VALUES (?)"),
+    INSERT_DUE_CARE_TARGETS("INSERT IGNORE INTO care_targets (plant_id) " +
+            "SELECT plant_id FROM reminders WHERE care_type = ? AND is_completed = false AND due_date <= ?"),
+    INSERT_TARGET_CARE_EVENTS("INSERT INTO care_events (plant_id, event_type, event_date, notes) " +
+            "SELECT p.id, ?, ?, ? FROM plants p JOIN care_targets t ON t.plant_id = p.id"),
+    ADVANCE_TARGETS_LAST_WATERED("UPDATE plants p JOIN care_targets t ON t.plant_id = p.id " +
+            "SET p.last_watered = GREATEST(COALESCE(p.last_watered, ?), ?)"),
+    ADVANCE_TARGETS_LAST_FERTILIZED("UPDATE plants p JOIN care_targets t ON t.plant_id = p.id " +
+            "SET p.last_fertilized = GREATEST(COALESCE(p.last_fertilized, ?), ?)"),
+    UPSERT_TARGET_REMINDERS("INSERT INTO reminders (plant_id, care_type, due_date, is_completed) " +
+            "SELECT p.id, ?, DATE_ADD(?, INTERVAL " +
+            "CASE WHEN ? = 'Watering' THEN p.watering_frequency ELSE p.fertilizing_frequency END DAY), false " +
+            "FROM plants p JOIN care_targets t ON t.plant_id = p.id " +
+            "ON DUPLICATE KEY UPDATE due_date = VALUES(due_date), is_completed = false"),
+    SELECT_TARGET_CARE_STATUS("SELECT p.id, " +
+            "CASE WHEN ? = 'Watering' THEN p.last_watered ELSE p.last_fertilized END AS last_care_date, " +
+            "DATE_ADD(?, INTERVAL " +
+            "CASE WHEN ? = 'Watering' THEN p.watering_frequency ELSE p.fertilizing_frequency END DAY) " +
+            "AS next_due_date " +
+            "FROM plants p JOIN care_targets t ON t.plant_id = p.id ORDER BY p.id"),
+
+    // Reminders: one row per plant and care type (uq_reminders_plant_care), rescheduled in place
+    UPSERT_REMINDER("INSERT INTO reminders (plant_id, care_type, due_date, is_completed) " +
+            "VALUES (?, ?, ?, false) " +
+            "ON DUPLICATE KEY UPDATE due_date = VALUES(due_date), is_completed = false"),
+    // Reads the frequency in the same statement instead of loading the plant first
+    UPSERT_REMINDER_FROM_FREQUENCY("INSERT INTO reminders (plant_id, care_type, due_date, is_completed) " +
+            "SELECT id, ?, DATE_ADD(?, INTERVAL " +
+            "CASE WHEN ? = 'Watering' THEN watering_frequency ELSE fertilizing_frequency END DAY), false " +
+            "FROM plants WHERE id = ? " +
+            "ON DUPLICATE KEY UPDATE due_date = VALUES(due_date), is_completed = false"),
+    SELECT_PENDING_REMINDERS_FOR_PLANT("SELECT * FROM reminders WHERE plant_id = ? AND is_completed = false " +
+            "ORDER BY due_date"),
+    // Range scan of idx_reminders_due, already in due date order
+    SELECT_DUE_REMINDERS("SELECT id, plant_id, care_type, due_date FROM reminders " +
+            "WHERE is_completed = false AND due_date BETWEEN ? AND ? ORDER BY due_date, id LIMIT ?"),
+    SELECT_ALL_PENDING_REMINDERS("SELECT id, plant_id, care_type, due_date FROM reminders WHERE is_completed = false"),
+
+    // Adherence statistics checkpoint; rows of deleted plants are skipped rather than failing the save
+    SELECT_ADHERENCE_CHECKPOINT_TIME("SELECT taken_at FROM care_adherence_checkpoint WHERE id = 1"),
+    SELECT_ALL_ADHERENCE("SELECT plant_id, care_type, last_care_date, intervals, on_time, lateness_days, " +
+            "current_streak, longest_streak FROM care_adherence"),
+    UPSERT_ADHERENCE("INSERT INTO care_adherence (plant_id, care_type, last_care_date, intervals, on_time, " +
+            "lateness_days, current_streak, longest_streak) " +
+            "SELECT id, ?, ?, ?, ?, ?, ?, ? FROM plants WHERE id = ? " +
+            "ON DUPLICATE KEY UPDATE last_care_date = VALUES(last_care_date), intervals = VALUES(intervals), " +
+            "on_time = VALUES(on_time), lateness_days = VALUES(lateness_days), " +
+            "current_streak = VALUES(current_streak), longest_streak = VALUES(longest_streak)"),
+    DELETE_ALL_ADHERENCE("DELETE FROM care_adherence"),
+    UPSERT_ADHERENCE_CHECKPOINT_TIME("INSERT INTO care_adherence_checkpoint (id, taken_at) VALUES (1, ?) " +
+            "ON DUPLICATE KEY UPDATE taken_at = VALUES(taken_at)");
+
+    private final String sql;
+    private final boolean returnsGeneratedKeys;
+
+    PlantSql(String sql) {
+        this(sql, false);
+    }
+
+    PlantSql(String sql, boolean returnsGeneratedKeys) {
+        this.sql = sql;
+        this.returnsGeneratedKeys = returnsGeneratedKeys;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return The generated keys flag to prepare the statement with
+     */
+    public int getAutoGeneratedKeys() {
+        return returnsGeneratedKeys ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS;
+    }
+}
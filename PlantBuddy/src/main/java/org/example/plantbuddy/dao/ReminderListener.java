@@ -0,0 +1,24 @@
+package org.example.plantbuddy.dao;
+
+import java.time.LocalDate;
+
+/**
+ * Receives changes to pending reminders from a {@link PlantRepository} once they are written,
+ * so the reminders can be kept in memory without querying for them again
+ */
+public interface ReminderListener {
+
+    /**
+     * Called when a plant's reminder for a care type is created or rescheduled
+     * @param plantId The ID of the plant
+     * @param careType "Watering" or "Fertilizing"
+     * @param dueDate The new due date, replacing any earlier one for the same plant and care type
+     */
+    void reminderScheduled(int plantId, String careType, LocalDate dueDate);
+
+    /**
+     * Called when a plant and with it all of its reminders are deleted
+     * @param plantId The ID of the deleted plant
+     */
+    void remindersRemoved(int plantId);
+}
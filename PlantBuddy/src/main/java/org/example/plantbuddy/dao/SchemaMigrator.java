@@ -0,0 +1,245 @@
+package org.example.plantbuddy.dao;
+
+import org.example.plantbuddy.util.DatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Applies versioned schema changes to the database.
+ * Applied versions are recorded in the schema_version table, so each migration runs exactly once.
+ * MySQL commits DDL implicitly, so a migration that fails halfway has part of its changes in place
+ * without its version recorded. Every statement is therefore safe to run again: tables and procedures
+ * use IF [NOT] EXISTS, and columns and indexes, which MySQL cannot guard in the DDL itself, are skipped
+ * when information_schema shows they already exist. The next start then finishes the migration.
+ */
+public final class SchemaMigrator {
+
+    private static final String COLUMN_EXISTS = "SELECT 1 FROM information_schema.columns " +
+            "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?";
+    private static final String INDEX_EXISTS = "SELECT 1 FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?";
+
+    /**
+     * A numbered schema change made of one or more statements
+     */
+    private record Migration(int version, String description, Step... steps) {
+    }
+
+    /**
+     * One SQL statement of a migration
+     * @param sql The statement
+     * @param existsQuery A query finding the column or index the statement creates, or null to always run it
+     * @param table The table the column or index belongs to
+     * @param name The name of the column or index
+     */
+    private record Step(String sql, String existsQuery, String table, String name) {
+    }
+
+    private static Step sql(String sql) {
+        return new Step(sql, null, null, null);
+    }
+
+    /**
+     * @return A step that runs the ALTER TABLE unless the column already exists
+     */
+    private static Step addColumn(String table, String column, String sql) {
+        return new Step(sql, COLUMN_EXISTS, table, column);
+    }
+
+    /**
+     * @return A step that runs the CREATE INDEX or ADD KEY unless the index already exists
+     */
+    private static Step addIndex(String table, String index, String sql) {
+        return new Step(sql, INDEX_EXISTS, table, index);
+    }
+
+    private static final List<Migration> MIGRATIONS = List.of(
+            new Migration(1, "Base schema",
+                    sql("CREATE TABLE IF NOT EXISTS plants (" +
+                            "id INT AUTO_INCREMENT PRIMARY KEY, " +
+                            "name VARCHAR(100) NOT NULL, " +
+                            "species VARCHAR(100), " +
+                            "location VARCHAR(50), " +
+                            "light_needs VARCHAR(50), " +
+                            "acquisition_date DATE, " +
+                            "watering_frequency INT NOT NULL, " +
+                            "fertilizing_frequency INT NOT NULL, " +
+                            "image_path VARCHAR(255), " +
+                            "notes TEXT)"),
+                    sql("CREATE TABLE IF NOT EXISTS care_events (" +
+                            "id INT AUTO_INCREMENT PRIMARY KEY, " +
+                            "plant_id INT NOT NULL, " +
+                            "event_type VARCHAR(50) NOT NULL, " +
+                            "event_date DATETIME NOT NULL, " +
+                            "notes TEXT, " +
+                            "FOREIGN KEY (plant_id) REFERENCES plants(id) ON DELETE CASCADE)"),
+                    sql("CREATE TABLE IF NOT EXISTS reminders (" +
+                            "id INT AUTO_INCREMENT PRIMARY KEY, " +
+                            "plant_id INT NOT NULL, " +
+                            "care_type VARCHAR(50) NOT NULL, " +
+                            "due_date DATE NOT NULL, " +
+                            "is_completed BOOLEAN NOT NULL DEFAULT FALSE, " +
+                            "FOREIGN KEY (plant_id) REFERENCES plants(id) ON DELETE CASCADE)")),
+            new Migration(2, "Store last care dates on the plants row",
+                    addColumn("plants", "last_watered", "ALTER TABLE plants ADD COLUMN last_watered DATE NULL"),
+                    addColumn("plants", "last_fertilized",
+                            "ALTER TABLE plants ADD COLUMN last_fertilized DATE NULL"),
+                    // Backfill from the existing care history; recomputes the same values if run again
+                    sql("UPDATE plants p JOIN (SELECT plant_id, " +
+                            "MAX(CASE WHEN event_type = 'Watering' THEN event_date END) AS last_watered, " +
+                            "MAX(CASE WHEN event_type = 'Fertilizing' THEN event_date END) AS last_fertilized " +
+                            "FROM care_events GROUP BY plant_id) ce ON ce.plant_id = p.id " +
+                            "SET p.last_watered = DATE(ce.last_watered), " +
+                            "p.last_fertilized = DATE(ce.last_fertilized)")),
+            new Migration(3, "Index plants by image path to count photo references",
+                    addIndex("plants", "idx_plants_image_path",
+                            "CREATE INDEX idx_plants_image_path ON plants (image_path)")),
+            new Migration(4, "Track when each plant row last changed",
+                    // Maintained by MySQL on every update, so no statement has to remember to bump it
+                    addColumn("plants", "updated_at",
+                            "ALTER TABLE plants ADD COLUMN updated_at TIMESTAMP(6) NOT NULL " +
+                            "DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)")),
+            new Migration(5, "Index pending reminders by due date",
+                    // Due reminders across all plants become one range scan in due date order
+                    addIndex("reminders", "idx_reminders_due",
+                            "CREATE INDEX idx_reminders_due ON reminders (is_completed, due_date)")),
+            new Migration(6, "Keep one reminder per plant and care type",
+                    // Keep the newest row of each pair; older ones were left behind by earlier reschedules
+                    sql("DELETE r FROM reminders r JOIN reminders newer " +
+                            "ON newer.plant_id = r.plant_id AND newer.care_type = r.care_type AND newer.id > r.id"),
+                    addIndex("reminders", "uq_reminders_plant_care",
+                            "ALTER TABLE reminders ADD UNIQUE KEY uq_reminders_plant_care (plant_id, care_type)")),
+            new Migration(7, "Page care history by date and keep monthly rollups of compacted events",
+                    // InnoDB appends the primary key, so this also orders ties on event_date by id
+                    addIndex("care_events", "idx_care_events_plant_date",
+                            "CREATE INDEX idx_care_events_plant_date ON care_events (plant_id, event_date)"),
+                    sql("CREATE TABLE IF NOT EXISTS care_event_monthly (" +
+                            "plant_id INT NOT NULL, " +
+                            "event_type VARCHAR(50) NOT NULL, " +
+                            "month DATE NOT NULL, " +
+                            "event_count INT NOT NULL, " +
+                            "first_event DATETIME NOT NULL, " +
+                            "last_event DATETIME NOT NULL, " +
+                            "PRIMARY KEY (plant_id, event_type, month), " +
+                            "FOREIGN KEY (plant_id) REFERENCES plants(id) ON DELETE CASCADE)")),
+            new Migration(8, "Checkpoint care adherence statistics",
+                    sql("CREATE TABLE IF NOT EXISTS care_adherence (" +
+                            "plant_id INT NOT NULL, " +
+                            "care_type VARCHAR(50) NOT NULL, " +
+                            "last_care_date DATE NOT NULL, " +
+                            "intervals INT NOT NULL, " +
+                            "on_time INT NOT NULL, " +
+                            "lateness_days BIGINT NOT NULL, " +
+                            "current_streak INT NOT NULL, " +
+                            "longest_streak INT NOT NULL, " +
+                            "PRIMARY KEY (plant_id, care_type), " +
+                            "FOREIGN KEY (plant_id) REFERENCES plants(id) ON DELETE CASCADE)"),
+                    // A single row holding when the statistics were last saved
+                    sql("CREATE TABLE IF NOT EXISTS care_adherence_checkpoint (" +
+                            "id TINYINT PRIMARY KEY, " +
+                            "taken_at DATETIME(6) NOT NULL)"),
+                    // Catching up after a checkpoint reads only the events since then
+                    addIndex("care_events", "idx_care_events_date",
+                            "CREATE INDEX idx_care_events_date ON care_events (event_date)"))
+    );
+
+    private static volatile boolean migrated;
+
+    private SchemaMigrator() {
+    }
+
+    /**
+     * Applies every migration that has not been applied yet.
+     * Safe to call more than once; only the first successful call does any work.
+     * @throws SQLException If a migration fails
+     */
+    public static synchronized void migrate() throws SQLException {
+        if (migrated) {
+            return;
+        }
+
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE IF NOT EXISTS schema_version (" +
+                        "version INT PRIMARY KEY, " +
+                        "description VARCHAR(200) NOT NULL, " +
+                        "applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+            }
+
+            Set<Integer> applied = new HashSet<>();
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT version FROM schema_version")) {
+                while (rs.next()) {
+                    applied.add(rs.getInt("version"));
+                }
+            }
+
+            for (Migration migration : MIGRATIONS) {
+                if (!applied.contains(migration.version())) {
+                    apply(conn, migration);
+                }
+            }
+        }
+
+        migrated = true;
+    }
+
+    /**
+     * Runs a migration's statements and records its version.
+     * MySQL commits DDL implicitly, so only the data changes are covered by the transaction;
+     * the DDL already made is skipped when a failed migration is retried.
+     */
+    private static void apply(Connection conn, Migration migration) throws SQLException {
+        System.out.println("Applying schema migration " + migration.version() + ": " + migration.description());
+
+        conn.setAutoCommit(false);
+        try {
+            try (Statement stmt = conn.createStatement()) {
+                for (Step step : migration.steps()) {
+                    if (alreadyApplied(conn, step)) {
+                        System.out.println("Skipping " + step.name() + ", already on " + step.table());
+                    } else {
+                        stmt.execute(step.sql());
+                    }
+                }
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO schema_version (version, description) VALUES (?, ?)")) {
+                stmt.setInt(1, migration.version());
+                stmt.setString(2, migration.description());
+                stmt.executeUpdate();
+            }
+
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw new SQLException("Schema migration " + migration.version() + " failed: " + e.getMessage(), e);
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * @return True if the column or index the step creates already exists
+     */
+    private static boolean alreadyApplied(Connection conn, Step step) throws SQLException {
+        if (step.existsQuery() == null) {
+            return false;
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(step.existsQuery())) {
+            stmt.setString(1, step.table());
+            stmt.setString(2, step.name());
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+}
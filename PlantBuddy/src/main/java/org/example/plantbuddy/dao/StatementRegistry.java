@@ -0,0 +1,141 @@
+package org.example.plantbuddy.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Prepares the statements listed in {@link PlantSql} and records how often and how long each one runs.
+ * The driver's statement cache (db.driver.cachePrepStmts) keeps prepared statements per connection,
+ * so after the first use on a connection preparing a statement here does not go back to the server.
+ */
+public final class StatementRegistry {
+
+    /**
+     * Execution counters for one statement
+     */
+    public static final class StatementStats {
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void record(long nanos) {
+            executions.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        public long getExecutions() {
+            return executions.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        public double getAverageMillis() {
+            long count = getExecutions();
+            return count == 0 ? 0 : getTotalNanos() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+
+    private static final Map<PlantSql, StatementStats> STATS = new EnumMap<>(PlantSql.class);
+
+    static {
+        for (PlantSql sql : PlantSql.values()) {
+            STATS.put(sql, new StatementStats());
+        }
+    }
+
+    private StatementRegistry() {
+    }
+
+    /**
+     * Prepares a registered statement on the given connection
+     * @param conn The connection to prepare on
+     * @param sql The statement to prepare
+     * @return A statement whose executions are timed; close it as usual
+     * @throws SQLException If there's a database error
+     */
+    public static PreparedStatement prepare(Connection conn, PlantSql sql) throws SQLException {
+        PreparedStatement stmt = conn.prepareStatement(sql.getSql(), sql.getAutoGeneratedKeys());
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                new TimingHandler(stmt, STATS.get(sql)));
+    }
+
+    /**
+     * @param sql The statement to look up
+     * @return The execution counters for the statement
+     */
+    public static StatementStats getStats(PlantSql sql) {
+        return STATS.get(sql);
+    }
+
+    /**
+     * @return One line per statement that has run, with its count, average and maximum latency
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder();
+        for (Map.Entry<PlantSql, StatementStats> entry : STATS.entrySet()) {
+            StatementStats stats = entry.getValue();
+            if (stats.getExecutions() > 0) {
+                report.append(String.format("%-36s %8d executions  avg %8.3f ms  max %8.3f ms%n",
+                        entry.getKey(), stats.getExecutions(), stats.getAverageMillis(),
+                        stats.getMaxNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1)));
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Times every execute* call on the wrapped statement
+     */
+    private static class TimingHandler implements InvocationHandler {
+        private final PreparedStatement target;
+        private final StatementStats stats;
+
+        TimingHandler(PreparedStatement target, StatementStats stats) {
+            this.target = target;
+            this.stats = stats;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+
+            boolean timed = method.getName().startsWith("execute");
+            long start = timed ? System.nanoTime() : 0;
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                if (timed) {
+                    stats.record(System.nanoTime() - start);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.plantbuddy.dao;
+
+import org.example.plantbuddy.util.DatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Runs a multi-step database operation on a single connection inside one transaction.
+ * The work is committed if it completes normally and rolled back if it throws.
+ */
+public final class UnitOfWork {
+
+    /**
+     * A piece of work that runs against the transaction's connection
+     * @param <T> The type of result produced by the work
+     */
+    @FunctionalInterface
+    public interface Work<T> {
+        T execute(Connection conn) throws SQLException;
+    }
+
+    /**
+     * A piece of work that produces no result
+     */
+    @FunctionalInterface
+    public interface VoidWork {
+        void execute(Connection conn) throws SQLException;
+    }
+
+    private UnitOfWork() {
+    }
+
+    /**
+     * Executes the work in a single transaction and returns its result
+     * @param work The work to run
+     * @return The value returned by the work
+     * @throws SQLException If the work or the commit fails; the transaction is rolled back
+     */
+    public static <T> T execute(Work<T> work) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                T result = work.execute(conn);
+                conn.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                rollbackQuietly(conn, e);
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * Executes the work in a single transaction
+     * @param work The work to run
+     * @throws SQLException If the work or the commit fails; the transaction is rolled back
+     */
+    public static void run(VoidWork work) throws SQLException {
+        execute(conn -> {
+            work.execute(conn);
+            return null;
+        });
+    }
+
+    private static void rollbackQuietly(Connection conn, Exception cause) {
+        try {
+            conn.rollback();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+}
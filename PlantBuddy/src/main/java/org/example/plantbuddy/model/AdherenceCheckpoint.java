@@ -0,0 +1,12 @@
+package org.example.plantbuddy.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Adherence statistics as last saved
+ * @param takenAt When the checkpoint was written; events from before it are included in the stats
+ * @param stats The saved stats of every plant and care type
+ */
+public record AdherenceCheckpoint(LocalDateTime takenAt, List<AdherenceStats> stats) {
+}
@@ -0,0 +1,59 @@
+package org.example.plantbuddy.model;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * How closely one plant's care of one type has kept to its frequency.
+ * Every care date after the first closes an interval; an interval no longer than the frequency
+ * is on time, otherwise the extra days count as lateness. Care on the same day as the previous
+ * care does not close an interval, so replaying an event that is already counted changes nothing.
+ * @param plantId The ID of the plant
+ * @param careType "Watering" or "Fertilizing"
+ * @param lastCareDate The date the last interval ended, or the baseline before the first care
+ * @param intervals The number of intervals counted
+ * @param onTime The number of intervals that were on time
+ * @param latenessDays The total days late over all intervals
+ * @param currentStreak The number of on-time intervals since the last late one
+ * @param longestStreak The longest run of on-time intervals
+ */
+public record AdherenceStats(int plantId, String careType, LocalDate lastCareDate, int intervals, int onTime,
+                             long latenessDays, int currentStreak, int longestStreak) {
+
+    /**
+     * @return Stats with no intervals yet, counting from the given baseline
+     */
+    public static AdherenceStats startingAt(int plantId, String careType, LocalDate baseline) {
+        return new AdherenceStats(plantId, careType, baseline, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Counts a care date
+     * @param date The date of the care
+     * @param frequency The plant's frequency for this care type, in days
+     * @return The updated stats, or these stats if the date is not after the last care date
+     */
+    public AdherenceStats withCare(LocalDate date, int frequency) {
+        if (!date.isAfter(lastCareDate)) {
+            return this;
+        }
+        long late = Math.max(0, ChronoUnit.DAYS.between(lastCareDate, date) - frequency);
+        int streak = late == 0 ? currentStreak + 1 : 0;
+        return new AdherenceStats(plantId, careType, date, intervals + 1, onTime + (late == 0 ? 1 : 0),
+                latenessDays + late, streak, Math.max(longestStreak, streak));
+    }
+
+    /**
+     * @return The share of intervals that were on time, 0 when there are none yet
+     */
+    public double onTimeRate() {
+        return intervals == 0 ? 0 : onTime / (double) intervals;
+    }
+
+    /**
+     * @return The average days late per interval, on-time intervals included, 0 when there are none yet
+     */
+    public double averageLatenessDays() {
+        return intervals == 0 ? 0 : latenessDays / (double) intervals;
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.plantbuddy.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of a plant's care history
+ * @param id The event's ID
+ * @param plantId The ID of the plant
+ * @param eventType The type of event, e.g. "Watering"
+ * @param eventDate When the care happened
+ * @param notes Any notes about the event, may be null
+ */
+public record CareEvent(int id, int plantId, String eventType, LocalDateTime eventDate, String notes) {
+}
@@ -0,0 +1,13 @@
+package org.example.plantbuddy.model;
+
+import java.time.LocalDate;
+
+/**
+ * A plant's care state for one care type right after a care event was recorded
+ * @param plantId The ID of the plant
+ * @param careType "Watering" or "Fertilizing"
+ * @param lastCareDate The date the plant was last cared for
+ * @param nextDueDate The due date of the rescheduled reminder, or null if the event is still buffered
+ */
+public record CareStatus(int plantId, String careType, LocalDate lastCareDate, LocalDate nextDueDate) {
+}
@@ -0,0 +1,17 @@
+package org.example.plantbuddy.model;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * A month of a plant's care history after its individual events have been compacted
+ * @param plantId The ID of the plant
+ * @param eventType The type of event, e.g. "Watering"
+ * @param month The month the events happened in
+ * @param eventCount The number of events of this type in the month
+ * @param firstEvent When the first of them happened
+ * @param lastEvent When the last of them happened
+ */
+public record CareSummary(int plantId, String eventType, YearMonth month, int eventCount,
+                          LocalDateTime firstEvent, LocalDateTime lastEvent) {
+}
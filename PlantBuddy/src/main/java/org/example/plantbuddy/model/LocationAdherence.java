@@ -0,0 +1,29 @@
+package org.example.plantbuddy.model;
+
+/**
+ * The care adherence of every plant in one location, for one care type
+ * @param location The location, e.g. "Balcony"
+ * @param careType "Watering" or "Fertilizing"
+ * @param plants The number of plants counted
+ * @param intervals The number of care intervals of those plants
+ * @param onTime The number of intervals that were on time
+ * @param latenessDays The total days late over all intervals
+ * @param longestStreak The longest run of on-time intervals of any of the plants
+ */
+public record LocationAdherence(String location, String careType, int plants, int intervals, int onTime,
+                                long latenessDays, int longestStreak) {
+
+    /**
+     * @return The share of intervals that were on time, 0 when there are none yet
+     */
+    public double onTimeRate() {
+        return intervals == 0 ? 0 : onTime / (double) intervals;
+    }
+
+    /**
+     * @return The average days late per interval, 0 when there are none yet
+     */
+    public double averageLatenessDays() {
+        return intervals == 0 ? 0 : latenessDays / (double) intervals;
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.plantbuddy.model;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 public class Plant {
     private int id;
@@ -15,6 +16,7 @@ public class Plant {
     private String imagepath;
     private LocalDate lastWatered;
     private LocalDate lastFertilized;
+    private LocalDateTime updatedAt;
 
     public Plant() {
         this.dateAcquired = LocalDate.now();
@@ -37,6 +39,21 @@ public class Plant {
         this.lastWatered = LocalDate.now();
         this.lastFertilized = LocalDate.now();
     }
+    public Plant(Plant other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.species = other.species;
+        this.location = other.location;
+        this.lightneeds = other.lightneeds;
+        this.dateAcquired = other.dateAcquired;
+        this.wateringFrequency = other.wateringFrequency;
+        this.fertilizingFrequency = other.fertilizingFrequency;
+        this.notes = other.notes;
+        this.imagepath = other.imagepath;
+        this.lastWatered = other.lastWatered;
+        this.lastFertilized = other.lastFertilized;
+        this.updatedAt = other.updatedAt;
+    }
     public int getId() {
         return id;
     }
@@ -109,6 +126,12 @@ public class Plant {
     public void setLastFertilized(LocalDate lastFertilized) {
         this.lastFertilized = lastFertilized;
     }
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
     public int getDaysUntilWatering() {
         return wateringFrequency - (int)java.time.temporal.ChronoUnit.DAYS.between(lastWatered, LocalDate.now());
     }
@@ -0,0 +1,13 @@
+package org.example.plantbuddy.model;
+
+import java.time.LocalDate;
+
+/**
+ * A pending care reminder; a plant has at most one per care type
+ * @param id The reminder's ID
+ * @param plantId The ID of the plant
+ * @param careType "Watering" or "Fertilizing"
+ * @param dueDate The date the care is due
+ */
+public record Reminder(int id, int plantId, String careType, LocalDate dueDate) {
+}
@@ -2,32 +2,25 @@ package org.example.plantbuddy;
 
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
-import javafx.scene.Node;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ProgressBar;
-import javafx.scene.image.Image;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.image.ImageView;
-import javafx.stage.Stage;
-import org.example.plantbuddy.dao.PlantDAO;
+import org.example.plantbuddy.dao.PlantRepository;
 import org.example.plantbuddy.model.Plant;
+import org.example.plantbuddy.util.ImageService;
 
-import java.io.File;
 import java.io.IOException;
 import java.net.URL;
-import java.sql.SQLException;
 import java.time.format.DateTimeFormatter;
 import java.util.ResourceBundle;
 
 public class plant_detailController implements Initializable {
-    private Stage stage;
-    private Scene scene;
-    private Parent root;
-    private PlantDAO plantDAO;
+    private final PlantRepository plantRepository;
+    private final ViewManager viewManager;
+    private final TaskScope tasks;
     private int plantId;
     private Plant currentPlant;
 
@@ -46,80 +39,97 @@ public class plant_detailController implements Initializable {
     @FXML private Label fertilizingDaysLabel;
     @FXML private Button waterbtn;
     @FXML private Button fertilizebtn;
+    @FXML private ProgressIndicator loadingIndicator;
+
+    public plant_detailController(PlantRepository plantRepository, DataAccessExecutor dataAccessExecutor,
+                                  ViewManager viewManager) {
+        this.plantRepository = plantRepository;
+        this.viewManager = viewManager;
+        this.tasks = new TaskScope(dataAccessExecutor);
+    }
 
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
-        // Initialize the DAO
-        plantDAO = new PlantDAO();
-
         // Set up event handlers for care buttons
         waterbtn.setOnAction(event -> waterPlant());
         fertilizebtn.setOnAction(event -> fertilizePlant());
+
+        // Show progress while data access runs; care buttons wait for the plant and for each other
+        loadingIndicator.visibleProperty().bind(tasks.busyProperty());
+        waterbtn.disableProperty().bind(tasks.busyProperty());
+        fertilizebtn.disableProperty().bind(tasks.busyProperty());
     }
 
     /**
-     * Set the plant ID and load the plant details
+     * Set the plant ID and load the plant details.
+     * The screen is reused, so whatever the previous plant showed is cleared first.
      * @param plantId The ID of the plant to display
      */
     public void setPlantId(int plantId) {
         this.plantId = plantId;
+        currentPlant = null;
+        clearPlantDetails();
         loadPlantDetails();
     }
 
     /**
-     * Loads the plant details from the database and displays them
+     * Blanks the screen while the next plant loads
+     */
+    private void clearPlantDetails() {
+        plantNameLabel.setText("");
+        plantImageView.setImage(null);
+        for (Label label : new Label[]{speciesLabel, locationLabel, lightNeedsLabel, acquiredLabel,
+                wateringLabel, fertilizingLabel, wateringDaysLabel, fertilizingDaysLabel}) {
+            label.setText("");
+        }
+        wateringProgressBar.setProgress(0);
+        fertilizingProgressBar.setProgress(0);
+    }
+
+    /**
+     * Loads the plant details from the database in the background
      */
     private void loadPlantDetails() {
-        try {
-            // Get plant details from database
-            currentPlant = plantDAO.getPlantById(plantId);
+        tasks.run(() -> plantRepository.getPlantById(plantId), this::showPlantDetails, error -> {
+            System.err.println("Error loading plant details: " + error.getMessage());
+            error.printStackTrace();
+        });
+    }
 
-            if (currentPlant == null) {
-                System.err.println("Plant not found with ID: " + plantId);
-                return;
-            }
+    /**
+     * Displays the loaded plant
+     * @param plant The plant, or null if it was not found
+     */
+    private void showPlantDetails(Plant plant) {
+        currentPlant = plant;
 
-            // Set plant name in the header
-            plantNameLabel.setText(currentPlant.getName());
-
-            // Set plant image
-            if (currentPlant.getImagepath() != null && !currentPlant.getImagepath().isEmpty()) {
-                try {
-                    File imageFile = new File(currentPlant.getImagepath());
-                    if (imageFile.exists()) {
-                        Image image = new Image(imageFile.toURI().toString());
-                        plantImageView.setImage(image);
-                    } else {
-                        setDefaultImage();
-                    }
-                } catch (Exception e) {
-                    System.err.println("Error loading plant image: " + e.getMessage());
-                    setDefaultImage();
-                }
-            } else {
-                setDefaultImage();
-            }
+        if (currentPlant == null) {
+            System.err.println("Plant not found with ID: " + plantId);
+            return;
+        }
 
-            // Set other plant details
-            speciesLabel.setText(currentPlant.getSpecies() != null ? currentPlant.getSpecies() : "Not specified");
-            locationLabel.setText(currentPlant.getLocation());
-            lightNeedsLabel.setText(currentPlant.getLightneeds());
+        // Set plant name in the header
+        plantNameLabel.setText(currentPlant.getName());
 
-            // Format acquisition date
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMMM d, yyyy");
-            acquiredLabel.setText(currentPlant.getDateAcquired().format(formatter));
+        // Set plant image, decoded at the size it is shown at
+        ImageService.show(plantImageView, currentPlant.getImagepath(),
+                plantImageView.getFitWidth(), plantImageView.getFitHeight());
 
-            // Set watering and fertilizing frequencies
-            wateringLabel.setText("Every " + currentPlant.getWateringFrequency() + " days");
-            fertilizingLabel.setText("Every " + currentPlant.getFertilizingFrequency() + " days");
+        // Set other plant details
+        speciesLabel.setText(currentPlant.getSpecies() != null ? currentPlant.getSpecies() : "Not specified");
+        locationLabel.setText(currentPlant.getLocation());
+        lightNeedsLabel.setText(currentPlant.getLightneeds());
 
-            // Set progress bars for watering and fertilizing
-            updateCareStatus();
+        // Format acquisition date
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMMM d, yyyy");
+        acquiredLabel.setText(currentPlant.getDateAcquired().format(formatter));
 
-        } catch (SQLException e) {
-            System.err.println("Error loading plant details: " + e.getMessage());
-            e.printStackTrace();
-        }
+        // Set watering and fertilizing frequencies
+        wateringLabel.setText("Every " + currentPlant.getWateringFrequency() + " days");
+        fertilizingLabel.setText("Every " + currentPlant.getFertilizingFrequency() + " days");
+
+        // Set progress bars for watering and fertilizing
+        updateCareStatus();
     }
 
     /**
@@ -148,67 +158,49 @@ public class plant_detailController implements Initializable {
     }
 
     /**
-     * Sets a default image when no plant image is available
-     */
-    private void setDefaultImage() {
-        try {
-            // Try to load a placeholder image
-            Image placeholderImage = new Image(getClass().getResourceAsStream("/placeholder_plant.png"));
-            if (placeholderImage != null && !placeholderImage.isError()) {
-                plantImageView.setImage(placeholderImage);
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading placeholder image: " + e.getMessage());
-        }
-    }
-
-    /**
-     * Records a watering event for the current plant
+     * Records a watering event for the current plant in the background
      */
     private void waterPlant() {
-        try {
-            plantDAO.waterPlant(plantId);
-            // Reload plant details to update care status
-            loadPlantDetails();
-        } catch (SQLException e) {
-            System.err.println("Error watering plant: " + e.getMessage());
-            e.printStackTrace();
-        }
+        tasks.runWrite(() -> plantRepository.waterPlant(plantId), status -> {
+            // Patch only the care status; the screen may show another plant by now
+            if (currentPlant != null && currentPlant.getId() == status.plantId() && status.lastCareDate() != null) {
+                currentPlant.setLastWatered(status.lastCareDate());
+                updateCareStatus();
+            }
+        }, error -> {
+            System.err.println("Error watering plant: " + error.getMessage());
+            error.printStackTrace();
+        });
     }
 
     /**
-     * Records a fertilizing event for the current plant
+     * Records a fertilizing event for the current plant in the background
      */
     private void fertilizePlant() {
-        try {
-            plantDAO.fertilizePlant(plantId);
-            // Reload plant details to update care status
-            loadPlantDetails();
-        } catch (SQLException e) {
-            System.err.println("Error fertilizing plant: " + e.getMessage());
-            e.printStackTrace();
-        }
+        tasks.runWrite(() -> plantRepository.fertilizePlant(plantId), status -> {
+            // Patch only the care status; the screen may show another plant by now
+            if (currentPlant != null && currentPlant.getId() == status.plantId() && status.lastCareDate() != null) {
+                currentPlant.setLastFertilized(status.lastCareDate());
+                updateCareStatus();
+            }
+        }, error -> {
+            System.err.println("Error fertilizing plant: " + error.getMessage());
+            error.printStackTrace();
+        });
     }
 
     @FXML
     public void back(ActionEvent event) throws IOException {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("hello-view.fxml"));
-            root = loader.load();
+        // Drops the plant still loading; care already submitted is a write and is never cancelled
+        tasks.cancelAll();
 
-            // Get the controller and refresh the plant list
-            HelloController controller = loader.getController();
+        try {
+            // Return to the dashboard and refresh the plant list
+            HelloController controller = viewManager.show(ViewManager.View.DASHBOARD, HelloController.class);
             controller.refreshPlants();
-
-            stage = (Stage)((Node)event.getSource()).getScene().getWindow();
-            scene = new Scene(root);
-            String css = this.getClass().getResource("styles.css").toExternalForm();
-            scene.getStylesheets().add(css);
-            stage.setScene(scene);
-            stage.show();
         } catch (Exception e) {
             System.err.println("Error navigating back: " + e.getMessage());
             e.printStackTrace();
         }
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
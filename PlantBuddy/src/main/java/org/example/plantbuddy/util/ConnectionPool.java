@@ -0,0 +1,290 @@
+package org.example.plantbuddy.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A small bounded JDBC connection pool.
+ * Connections handed out by {@link #getConnection()} return themselves to the pool when closed,
+ * so existing try-with-resources code keeps working unchanged.
+ * Prepared statements are not cached here: the driver's own statement cache (db.driver.cachePrepStmts)
+ * already reuses parsed statements per connection.
+ */
+public class ConnectionPool {
+    private final String url;
+    private final Properties connectionProperties;
+    private final int maxSize;
+    private final int minIdle;
+    private final long maxWaitMillis;
+    private final long idleTimeoutMillis;
+    private final int validationTimeoutSeconds;
+
+    // Idle connections, most recently used first
+    private final LinkedBlockingDeque<PooledConnection> idleConnections = new LinkedBlockingDeque<>();
+    // One permit per connection that may be handed out
+    private final Semaphore permits;
+    private final ScheduledExecutorService evictor;
+    private volatile boolean closed;
+
+    /**
+     * Creates an empty pool; call {@link #warmUp()} to open the initial connections
+     * @param url The JDBC URL
+     * @param connectionProperties Driver properties, including user and password
+     * @param maxSize The maximum number of open connections
+     * @param minIdle The number of connections to open up front and keep around
+     * @param maxWaitMillis How long a caller waits for a free connection before failing
+     * @param idleTimeoutMillis How long a connection may sit idle before it is closed
+     * @param validationTimeoutSeconds Timeout for the validation check done on borrow
+     */
+    public ConnectionPool(String url, Properties connectionProperties, int maxSize, int minIdle,
+                          long maxWaitMillis, long idleTimeoutMillis, int validationTimeoutSeconds) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1");
+        }
+        this.url = url;
+        this.connectionProperties = connectionProperties;
+        this.maxSize = maxSize;
+        this.minIdle = Math.min(Math.max(minIdle, 0), maxSize);
+        this.maxWaitMillis = maxWaitMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.permits = new Semaphore(maxSize, true);
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1000, idleTimeoutMillis / 2);
+        evictor.scheduleAtFixedRate(this::evictIdleConnections, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens connections until {@code minIdle} are available.
+     * Failures are logged rather than thrown so the application can still start without a database.
+     */
+    public void warmUp() {
+        while (!closed && idleConnections.size() < minIdle
+                && idleConnections.size() + getActiveCount() < maxSize) {
+            try {
+                idleConnections.offerLast(new PooledConnection(openPhysicalConnection()));
+            } catch (SQLException e) {
+                System.err.println("Failed to pre-warm connection pool: " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Borrows a connection from the pool, opening a new one if none is idle
+     * @return A validated connection; closing it returns it to the pool
+     * @throws SQLException If no connection becomes available within the max wait time
+     */
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        try {
+            if (!permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Timed out after " + maxWaitMillis +
+                        " ms waiting for a database connection (pool size " + maxSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            PooledConnection pooled;
+            while ((pooled = idleConnections.pollFirst()) != null) {
+                if (isUsable(pooled.physical)) {
+                    return pooled.lease();
+                }
+                closeQuietly(pooled.physical);
+            }
+            return new PooledConnection(openPhysicalConnection()).lease();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Closes all idle connections and stops the evictor.
+     * Connections currently in use are closed when they are returned.
+     */
+    public void shutdown() {
+        closed = true;
+        evictor.shutdownNow();
+        PooledConnection pooled;
+        while ((pooled = idleConnections.pollFirst()) != null) {
+            closeQuietly(pooled.physical);
+        }
+    }
+
+    /**
+     * @return The number of idle connections currently held by the pool
+     */
+    public int getIdleCount() {
+        return idleConnections.size();
+    }
+
+    /**
+     * @return The number of connections currently borrowed
+     */
+    public int getActiveCount() {
+        return maxSize - permits.availablePermits();
+    }
+
+    private Connection openPhysicalConnection() throws SQLException {
+        return DriverManager.getConnection(url, connectionProperties);
+    }
+
+    private boolean isUsable(Connection physical) {
+        try {
+            return !physical.isClosed() && physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns a connection to the pool after resetting any state the borrower may have changed
+     */
+    private void release(PooledConnection pooled) {
+        try {
+            Connection physical = pooled.physical;
+            if (closed || physical.isClosed()) {
+                closeQuietly(physical);
+                return;
+            }
+            try {
+                if (!physical.getAutoCommit()) {
+                    physical.rollback();
+                    physical.setAutoCommit(true);
+                }
+                physical.clearWarnings();
+            } catch (SQLException e) {
+                // A connection we cannot reset is not safe to hand out again
+                closeQuietly(physical);
+                return;
+            }
+            pooled.lastUsed = System.currentTimeMillis();
+            idleConnections.offerFirst(pooled);
+        } catch (SQLException e) {
+            closeQuietly(pooled.physical);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Closes connections that have been idle longer than the idle timeout, keeping at least minIdle
+     */
+    private void evictIdleConnections() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMillis;
+        List<PooledConnection> expired = new ArrayList<>();
+
+        // Least recently used connections sit at the tail of the deque
+        Iterator<PooledConnection> iterator = idleConnections.descendingIterator();
+        while (iterator.hasNext() && idleConnections.size() - expired.size() > minIdle) {
+            PooledConnection pooled = iterator.next();
+            if (pooled.lastUsed < cutoff) {
+                expired.add(pooled);
+            }
+        }
+
+        for (PooledConnection pooled : expired) {
+            if (idleConnections.remove(pooled)) {
+                closeQuietly(pooled.physical);
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing pooled connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A physical connection owned by the pool
+     */
+    private class PooledConnection {
+        private final Connection physical;
+        private volatile long lastUsed = System.currentTimeMillis();
+
+        PooledConnection(Connection physical) {
+            this.physical = physical;
+        }
+
+        /**
+         * Creates the handle given to a borrower; it is good for a single close
+         */
+        Connection lease() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new LeaseHandler(this));
+        }
+    }
+
+    /**
+     * Forwards calls to the physical connection until the borrower closes the handle
+     */
+    private class LeaseHandler implements InvocationHandler {
+        private final PooledConnection pooled;
+        private boolean returned;
+
+        LeaseHandler(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled" + pooled.physical;
+                default:
+                    if (returned) {
+                        throw new SQLException("Connection has already been returned to the pool");
+                    }
+            }
+
+            try {
+                return method.invoke(pooled.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -3,18 +3,22 @@ package org.example.plantbuddy.util;
 import java.io.IOException;
 import java.io.InputStream;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Properties;
 
 public class DatabaseUtil {
+    private static final String DRIVER_PROPERTY_PREFIX = "db.driver.";
+
     private static String dbUrl;
     private static String dbUsername;
     private static String dbPassword;
+    private static Properties properties = new Properties();
+    private static ConnectionPool connectionPool;
 
     static {
         try {
             loadDatabaseProperties();
+            connectionPool = createConnectionPool();
         } catch (IOException e) {
             System.err.println("Failed to load database properties: " + e.getMessage());
             e.printStackTrace();
@@ -25,7 +29,6 @@ public class DatabaseUtil {
      * Loads database properties from application.properties file
      */
     private static void loadDatabaseProperties() throws IOException {
-        Properties properties = new Properties();
         try (InputStream input = DatabaseUtil.class.getClassLoader().getResourceAsStream("application.properties")) {
             if (input == null) {
                 throw new IOException("Unable to find application.properties");
@@ -44,11 +47,103 @@ public class DatabaseUtil {
     }
 
     /**
-     * Gets a database connection using properties from application.properties
+     * Creates the connection pool using the db.pool.* and db.driver.* settings from application.properties
+     * @return A new, not yet warmed up, connection pool
+     */
+    private static ConnectionPool createConnectionPool() {
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("user", dbUsername);
+        connectionProperties.setProperty("password", dbPassword);
+
+        // Pass db.driver.* settings straight through to the JDBC driver
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(DRIVER_PROPERTY_PREFIX)) {
+                connectionProperties.setProperty(key.substring(DRIVER_PROPERTY_PREFIX.length()),
+                        properties.getProperty(key));
+            }
+        }
+
+        int maxSize = getIntProperty("db.pool.size", 10);
+        int minIdle = getIntProperty("db.pool.minIdle", 2);
+        long maxWaitMillis = getIntProperty("db.pool.maxWaitMillis", 5000);
+        long idleTimeoutMillis = getIntProperty("db.pool.idleTimeoutMillis", 300000);
+        int validationTimeoutSeconds = getIntProperty("db.pool.validationTimeoutSeconds", 2);
+
+        return new ConnectionPool(dbUrl, connectionProperties, maxSize, minIdle,
+                maxWaitMillis, idleTimeoutMillis, validationTimeoutSeconds);
+    }
+
+    /**
+     * Reads a string property from application.properties
+     * @param key The property name
+     * @param defaultValue The value to use when the property is not set
+     * @return The configured value
+     */
+    public static String getProperty(String key, String defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    /**
+     * Reads an integer property, falling back to a default when it is missing or malformed
+     * @param key The property name
+     * @param defaultValue The value to use when the property is not set
+     * @return The configured value
+     */
+    public static int getIntProperty(String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid value for " + key + ": " + value + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Reads a boolean property, falling back to a default when it is missing
+     * @param key The property name
+     * @param defaultValue The value to use when the property is not set
+     * @return The configured value
+     */
+    public static boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value.trim());
+    }
+
+    /**
+     * Gets a pooled database connection. Closing the connection returns it to the pool.
      * @return A Connection to the database
-     * @throws SQLException If connection fails
+     * @throws SQLException If connection fails or no connection is available in time
      */
     public static Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(dbUrl, dbUsername, dbPassword);
+        if (connectionPool == null) {
+            throw new SQLException("Database connection pool is not configured");
+        }
+        return connectionPool.getConnection();
+    }
+
+    /**
+     * Opens the initial pooled connections so the first query does not pay for the handshake
+     */
+    public static void warmUp() {
+        if (connectionPool != null) {
+            connectionPool.warmUp();
+        }
+    }
+
+    /**
+     * Closes all pooled connections, called when the application exits
+     */
+    public static void shutdown() {
+        if (connectionPool != null) {
+            connectionPool.shutdown();
+        }
     }
-}
\ No newline at end of file
+}
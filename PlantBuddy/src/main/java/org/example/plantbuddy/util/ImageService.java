@@ -0,0 +1,210 @@
+package org.example.plantbuddy.util;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.io.File;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Shared loader for plant photos.
+ * Photos are decoded at the size they are shown at, in the background, and kept in an LRU cache
+ * keyed by path and size. The cache holds at most image.cache.maxBytes of decoded pixels;
+ * images pushed out of it stay reachable through soft references until the heap needs the memory.
+ * Only use it from the JavaFX Application Thread.
+ */
+public class ImageService {
+    private static final String PLACEHOLDER_RESOURCE = "/plant_placeholder.png";
+
+    // Decoded images use 4 bytes per pixel
+    private static final int BYTES_PER_PIXEL = 4;
+
+    /**
+     * Cache key: the same photo shown at another size is a separate decoded image
+     */
+    private record ImageKey(String path, int width, int height) {
+    }
+
+    private static final long maxBytes = DatabaseUtil.getIntProperty("image.cache.maxBytes", 32 * 1024 * 1024);
+    private static final LinkedHashMap<ImageKey, Image> cache = new LinkedHashMap<>(64, 0.75f, true);
+    private static final Map<ImageKey, SoftReference<Image>> spill = new HashMap<>();
+    private static long cachedBytes;
+    // Photos whose variant failed to load, e.g. deleted by hand; their original is loaded instead
+    private static final Set<String> failedVariants = new HashSet<>();
+
+    private static Image placeholder;
+    private static boolean placeholderLoaded;
+
+    private ImageService() {
+    }
+
+    /**
+     * Shows a plant photo in an image view, falling back to the placeholder when there is no photo
+     * or it cannot be decoded
+     * @param imageView The view to show the photo in
+     * @param path The photo's file path, may be null or empty
+     * @param width The width the photo is shown at
+     * @param height The height the photo is shown at
+     */
+    public static void show(ImageView imageView, String path, double width, double height) {
+        Image image = path != null && !path.isEmpty() ? load(path, width, height) : null;
+        if (image == null) {
+            imageView.setImage(getPlaceholder());
+            return;
+        }
+
+        imageView.setImage(image);
+        if (image.getProgress() < 1) {
+            // Swap in the placeholder if loading fails, unless the view moved on to another image;
+            // a variant that failed is retried once with the original photo
+            image.errorProperty().addListener((observable, wasError, isError) -> {
+                if (isError && imageView.getImage() == image) {
+                    if (failedVariants.contains(path) && !image.getUrl().equals(toUrl(path))) {
+                        show(imageView, path, width, height);
+                    } else {
+                        imageView.setImage(getPlaceholder());
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns a photo decoded to fit the given size, from the cache when possible.
+     * The smallest downscaled variant that still fits is decoded instead of the original when there is one.
+     * A newly requested photo is decoded in the background and is blank until it has loaded;
+     * the file system is only touched by that background load, so a missing file shows up as an error.
+     * @param path The photo's file path
+     * @param width The width the photo is shown at
+     * @param height The height the photo is shown at
+     * @return The photo, which is in error if the file is missing or could not be decoded
+     */
+    public static Image load(String path, double width, double height) {
+        String source = failedVariants.contains(path) ? path : ImageVariants.resolve(path, width, height);
+        ImageKey key = new ImageKey(source, (int) Math.ceil(width), (int) Math.ceil(height));
+
+        Image image = cache.get(key);
+        if (image == null) {
+            image = recover(key);
+        }
+        if (image != null) {
+            if (!image.isError()) {
+                return image;
+            }
+            remove(key);
+        }
+
+        image = new Image(toUrl(source), key.width(), key.height(), true, true, true);
+        put(key, image);
+
+        // Missing files and decoding errors only show up once the background load has finished
+        Image loading = image;
+        image.errorProperty().addListener((observable, wasError, isError) -> {
+            if (isError) {
+                System.err.println("Error loading plant image " + source + ": " + loading.getException());
+                if (!source.equals(path)) {
+                    failedVariants.add(path);
+                }
+                if (cache.get(key) == loading) {
+                    remove(key);
+                }
+            }
+        });
+        return image;
+    }
+
+    private static String toUrl(String path) {
+        return new File(path).toURI().toString();
+    }
+
+    /**
+     * Returns the shared placeholder image, loaded once
+     * @return The placeholder, or null if the resource is missing
+     */
+    public static Image getPlaceholder() {
+        if (!placeholderLoaded) {
+            placeholderLoaded = true;
+            try (InputStream input = ImageService.class.getResourceAsStream(PLACEHOLDER_RESOURCE)) {
+                if (input != null) {
+                    placeholder = new Image(input);
+                } else {
+                    System.err.println("Placeholder image not found: " + PLACEHOLDER_RESOURCE);
+                }
+            } catch (Exception e) {
+                System.err.println("Error loading placeholder image: " + e.getMessage());
+            }
+        }
+        return placeholder;
+    }
+
+    /**
+     * @return The decoded bytes currently held by the cache, not counting soft references
+     */
+    public static long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    /**
+     * Drops every cached image, e.g. when memory is low
+     */
+    public static void clear() {
+        cache.clear();
+        spill.clear();
+        cachedBytes = 0;
+    }
+
+    /**
+     * Moves an image that was pushed out of the cache back in, if the heap still has it
+     */
+    private static Image recover(ImageKey key) {
+        SoftReference<Image> reference = spill.remove(key);
+        Image image = reference != null ? reference.get() : null;
+        if (image != null) {
+            put(key, image);
+        }
+        return image;
+    }
+
+    private static void put(ImageKey key, Image image) {
+        Image previous = cache.put(key, image);
+        if (previous != null) {
+            cachedBytes -= sizeOf(key);
+        }
+        cachedBytes += sizeOf(key);
+
+        // Evict least recently used images into the soft spill, but always keep the newest one
+        Iterator<Map.Entry<ImageKey, Image>> eldest = cache.entrySet().iterator();
+        while (cachedBytes > maxBytes && cache.size() > 1) {
+            Map.Entry<ImageKey, Image> entry = eldest.next();
+            spill.put(entry.getKey(), new SoftReference<>(entry.getValue()));
+            cachedBytes -= sizeOf(entry.getKey());
+            eldest.remove();
+        }
+
+        // Forget spilled images the garbage collector has already reclaimed
+        if (spill.size() > cache.size() * 4) {
+            spill.values().removeIf(reference -> reference.get() == null);
+        }
+    }
+
+    private static void remove(ImageKey key) {
+        if (cache.remove(key) != null) {
+            cachedBytes -= sizeOf(key);
+        }
+        spill.remove(key);
+    }
+
+    /**
+     * Upper bound on the decoded size; the image fits inside the requested box
+     */
+    private static long sizeOf(ImageKey key) {
+        return (long) key.width() * key.height() * BYTES_PER_PIXEL;
+    }
+}
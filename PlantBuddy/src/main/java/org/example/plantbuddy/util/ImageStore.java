@@ -0,0 +1,189 @@
+package org.example.plantbuddy.util;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * Content-addressed store for plant photos.
+ * A photo is named by the SHA-256 of its bytes and kept under plant_images/ab/cd/abcd....ext,
+ * so saving the same photo twice stores it once and concurrent saves can never collide.
+ * A stored photo is referenced by plants.image_path. Because saves share files, a save can reuse a photo
+ * that a concurrent delete is releasing: {@link #release} re-counts the references after moving the photo
+ * aside, and a save calls {@link #ensureStored} after its commit, so the photo always survives a reference.
+ */
+public final class ImageStore {
+    // Source files are hashed through memory mappings of at most this size
+    private static final long MAP_CHUNK_BYTES = 64L * 1024 * 1024;
+
+    /**
+     * Counts the plants whose image_path is a photo, from committed data
+     */
+    @FunctionalInterface
+    public interface ReferenceCount {
+        int count(String imagePath) throws SQLException;
+    }
+
+    private ImageStore() {
+    }
+
+    /**
+     * Adds a photo to the store.
+     * The source is hashed through a memory mapping, which pulls it into the page cache once;
+     * only a photo that is not stored yet is then copied with {@link FileChannel#transferTo},
+     * which the kernel serves from those cached pages without copying through the heap.
+     * @param source The photo to add
+     * @return The stored photo's path
+     * @throws IOException If the photo cannot be read or stored
+     */
+    public static Path ingest(Path source) throws IOException {
+        Path root = getRoot();
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            String hash = hash(in);
+            Path target = pathFor(hash, extensionOf(source));
+            if (Files.exists(target)) {
+                // Already stored: nothing is written
+                return target;
+            }
+
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(root, "ingest-", ".tmp");
+            try {
+                try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    long size = in.size();
+                    long position = 0;
+                    while (position < size) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                }
+                // A concurrent save of the same photo wrote identical bytes, so replacing it is harmless
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            return target;
+        }
+    }
+
+    /**
+     * Deletes a stored photo and its downscaled variants unless a plant references it,
+     * called after the change that dropped a reference has committed.
+     * The photo is moved aside before the references are counted, and moved back if there are any.
+     * A save committing a new reference meanwhile either is counted here or finds the photo missing
+     * in {@link #ensureStored} and writes it again, so neither order loses it.
+     * Paths outside the store, such as photos saved before it existed, are left alone.
+     * @param imagePath The path from plants.image_path
+     * @param references Counts the plants referencing the photo
+     */
+    public static void release(String imagePath, ReferenceCount references) {
+        if (!isStored(imagePath)) {
+            return;
+        }
+
+        Path path = Paths.get(imagePath);
+        try {
+            Path aside = Files.createTempFile(getRoot(), "release-", ".tmp");
+            try {
+                Files.move(path, aside, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (NoSuchFileException e) {
+                // Already released
+                Files.deleteIfExists(aside);
+                return;
+            }
+
+            if (isReferenced(imagePath, references)) {
+                // A save written meanwhile holds identical bytes, so replacing it is harmless
+                Files.move(aside, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                ImageVariants.deleteVariants(path);
+                Files.deleteIfExists(aside);
+            }
+        } catch (IOException e) {
+            System.err.println("Error deleting unreferenced image " + imagePath + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes a photo again if it was released while the save referencing it was committing,
+     * called after the save has committed
+     * @param source The photo that was saved
+     * @param imagePath The stored path the save references
+     * @return True if the photo had to be written again
+     * @throws IOException If the photo cannot be read or stored
+     */
+    public static boolean ensureStored(Path source, String imagePath) throws IOException {
+        if (Files.exists(Paths.get(imagePath))) {
+            return false;
+        }
+        ingest(source);
+        return true;
+    }
+
+    private static boolean isReferenced(String imagePath, ReferenceCount references) {
+        try {
+            return references.count(imagePath) > 0;
+        } catch (SQLException e) {
+            // Keep the photo when in doubt; an orphaned file is better than a missing one
+            System.err.println("Error counting references to " + imagePath + ": " + e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * @param imagePath A path from plants.image_path, may be null
+     * @return True if the photo is kept in this store
+     */
+    public static boolean isStored(String imagePath) {
+        if (imagePath == null || imagePath.isEmpty()) {
+            return false;
+        }
+        Path path = Paths.get(imagePath).toAbsolutePath().normalize();
+        // Stored photos sit two shard directories below the root
+        return path.getNameCount() > 2 && getRoot().equals(path.getParent().getParent().getParent());
+    }
+
+    private static Path getRoot() {
+        return ImageVariants.getImageDirectory().toAbsolutePath().normalize();
+    }
+
+    /**
+     * Two levels of 256 directories keep every directory small however many photos there are
+     */
+    private static Path pathFor(String hash, String extension) {
+        return getRoot().resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash + extension);
+    }
+
+    private static String hash(FileChannel in) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+
+        long size = in.size();
+        for (long position = 0; position < size; position += MAP_CHUNK_BYTES) {
+            MappedByteBuffer mapping = in.map(FileChannel.MapMode.READ_ONLY, position,
+                    Math.min(MAP_CHUNK_BYTES, size - position));
+            digest.update(mapping);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String extensionOf(Path source) {
+        String fileName = source.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(dot).toLowerCase(Locale.ROOT) : "";
+    }
+}
@@ -0,0 +1,326 @@
+package org.example.plantbuddy.util;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Downscaled copies of the photos in plant_images/.
+ * When a photo is saved a tile and a detail sized variant are written next to it on a background thread,
+ * and recorded in plant_images/manifest.properties so views can load the smallest variant that still
+ * fits their size instead of decoding the full photo.
+ * Run {@link #main} to generate variants for photos saved before this existed.
+ * The manifest is kept in memory and only lookups read it; changes are written to the file
+ * by {@link #saveManifest()}, once per saved photo or once for a whole backfill.
+ */
+public class ImageVariants {
+    private static final Path IMAGE_DIR = Paths.get(System.getProperty("user.dir"), "plant_images");
+    private static final Path MANIFEST = IMAGE_DIR.resolve("manifest.properties");
+    private static final Pattern IMAGE_FILE = Pattern.compile("(?i).*\\.(png|jpg|jpeg|gif)");
+
+    /**
+     * A variant size; the longest edge of the variant is at most maxEdge pixels
+     */
+    private enum Variant {
+        // Dashboard tiles are 100px, doubled for high-DPI screens
+        TILE("tile", 200),
+        // The detail view shows photos at about 250px
+        DETAIL("detail", 500);
+
+        private final String suffix;
+        private final int maxEdge;
+
+        Variant(String suffix, int maxEdge) {
+            this.suffix = suffix;
+            this.maxEdge = maxEdge;
+        }
+    }
+
+    // Decoding large photos is memory hungry, so variants are generated one photo at a time
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "image-variants");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static Properties manifest;
+    private static boolean manifestChanged;
+
+    private ImageVariants() {
+    }
+
+    /**
+     * @return The directory plant photos are saved in
+     */
+    public static Path getImageDirectory() {
+        return IMAGE_DIR;
+    }
+
+    /**
+     * Reads the manifest ahead of the first photo lookup, called during startup
+     */
+    public static void warmUp() {
+        getManifest();
+    }
+
+    /**
+     * Generates the variants of a photo on the background thread, unless it already has them
+     * @param original The saved photo
+     */
+    public static void generateAsync(Path original) {
+        if (isProcessed(original.getFileName().toString())) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                generate(original);
+                saveManifest();
+            } catch (IOException e) {
+                System.err.println("Error generating image variants for " + original + ": " + e.getMessage());
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Writes the variants of a photo that is larger than a variant size and records them in the manifest;
+     * the manifest file is written by {@link #saveManifest()}
+     * @param original The saved photo
+     * @throws IOException If the photo cannot be read or a variant cannot be written
+     */
+    public static void generate(Path original) throws IOException {
+        BufferedImage source = ImageIO.read(original.toFile());
+        if (source == null) {
+            throw new IOException("Unsupported image format: " + original);
+        }
+
+        String fileName = original.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        // PNG keeps transparency; everything else is stored as JPEG
+        String format = source.getColorModel().hasAlpha() ? "png" : "jpg";
+
+        // The original's size marks the photo as processed, even when it is too small to need variants
+        Properties entries = new Properties();
+        entries.setProperty(fileName + ".size", source.getWidth() + "x" + source.getHeight());
+        int longestEdge = Math.max(source.getWidth(), source.getHeight());
+        for (Variant variant : Variant.values()) {
+            // Small photos are shown as they are
+            if (longestEdge <= variant.maxEdge) {
+                continue;
+            }
+
+            BufferedImage scaled = scale(source, variant.maxEdge);
+            Path target = original.resolveSibling(baseName + "_" + variant.suffix + "." + format);
+            if (!ImageIO.write(scaled, format, target.toFile())) {
+                throw new IOException("No image writer for " + format);
+            }
+            entries.setProperty(fileName + "." + variant.suffix, target.getFileName().toString());
+        }
+
+        recordVariants(fileName, entries);
+    }
+
+    /**
+     * Picks the smallest variant of a photo that is at least the requested size.
+     * Only the in-memory manifest is read, so this is cheap enough for every tile bind on the FX thread;
+     * a variant deleted behind the manifest's back fails to load and the caller falls back to the original.
+     * @param path The path of the original photo
+     * @param width The width the photo is shown at
+     * @param height The height the photo is shown at
+     * @return The variant's path, or the original path if there is no fitting variant
+     */
+    public static String resolve(String path, double width, double height) {
+        Path original = Paths.get(path);
+        String fileName = original.getFileName().toString();
+        double needed = Math.max(width, height);
+
+        for (Variant variant : Variant.values()) {
+            if (variant.maxEdge < needed) {
+                continue;
+            }
+            String variantName = getManifest().getProperty(fileName + "." + variant.suffix);
+            if (variantName != null) {
+                return original.resolveSibling(variantName).toString();
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Deletes a photo's variants and its manifest entries
+     * @param original The photo the variants were made from
+     * @throws IOException If a variant cannot be deleted
+     */
+    public static void deleteVariants(Path original) throws IOException {
+        String fileName = original.getFileName().toString();
+        for (Variant variant : Variant.values()) {
+            String variantName = getManifest().getProperty(fileName + "." + variant.suffix);
+            if (variantName != null) {
+                Files.deleteIfExists(original.resolveSibling(variantName));
+            }
+        }
+        recordVariants(fileName, new Properties());
+        saveManifest();
+    }
+
+    /**
+     * Writes the manifest file atomically if it has changed since it was last written
+     * @throws IOException If the manifest cannot be written
+     */
+    public static synchronized void saveManifest() throws IOException {
+        if (!manifestChanged) {
+            return;
+        }
+        Path temp = MANIFEST.resolveSibling(MANIFEST.getFileName() + ".tmp");
+        try (OutputStream output = Files.newOutputStream(temp)) {
+            getManifest().store(output, "Downscaled variants of plant photos");
+        }
+        Files.move(temp, MANIFEST, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        manifestChanged = false;
+    }
+
+    /**
+     * Waits briefly for queued variants to be written, called when the application exits
+     */
+    public static void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                System.err.println("Image variants still being generated at shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Downscales an image so its longest edge is maxEdge, stepping down by halves
+     * so large photos keep their detail without an expensive single-pass filter
+     */
+    private static BufferedImage scale(BufferedImage source, int maxEdge) {
+        double ratio = (double) maxEdge / Math.max(source.getWidth(), source.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage step = new BufferedImage(width, height, type);
+            Graphics2D graphics = step.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, width, height, null);
+            graphics.dispose();
+            current = step;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private static synchronized Properties getManifest() {
+        if (manifest == null) {
+            manifest = new Properties();
+            if (Files.exists(MANIFEST)) {
+                try (InputStream input = Files.newInputStream(MANIFEST)) {
+                    manifest.load(input);
+                } catch (IOException e) {
+                    System.err.println("Error reading image manifest: " + e.getMessage());
+                }
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Replaces a photo's manifest entries in memory
+     */
+    private static synchronized void recordVariants(String fileName, Properties entries) {
+        Properties current = getManifest();
+        for (String key : current.stringPropertyNames()) {
+            if (key.startsWith(fileName + ".")) {
+                current.remove(key);
+            }
+        }
+        current.putAll(entries);
+        manifestChanged = true;
+    }
+
+    /**
+     * @return True if variants have been generated for the photo, or it was too small to need any
+     */
+    private static boolean isProcessed(String fileName) {
+        return getManifest().getProperty(fileName + ".size") != null;
+    }
+
+    /**
+     * @return True if the file is a variant written by this class rather than an original photo
+     */
+    private static boolean isVariant(String fileName) {
+        for (Variant variant : Variant.values()) {
+            if (fileName.matches(".*_" + variant.suffix + "\\.(png|jpg)")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Backfill: generates variants for every photo in plant_images/ and its store directories that has none yet
+     * @param args Pass --force to regenerate variants for every photo
+     */
+    public static void main(String[] args) throws IOException {
+        boolean force = args.length > 0 && args[0].equals("--force");
+        if (!Files.isDirectory(IMAGE_DIR)) {
+            System.out.println("No image directory at " + IMAGE_DIR);
+            return;
+        }
+
+        List<Path> originals = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(IMAGE_DIR)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String fileName = file.getFileName().toString();
+                if (!Files.isRegularFile(file) || !IMAGE_FILE.matcher(fileName).matches() || isVariant(fileName)) {
+                    continue;
+                }
+                if (force || !isProcessed(fileName)) {
+                    originals.add(file);
+                }
+            }
+        }
+
+        int generated = 0;
+        for (Path original : originals) {
+            try {
+                generate(original);
+                generated++;
+            } catch (IOException e) {
+                System.err.println("Skipping " + original.getFileName() + ": " + e.getMessage());
+            }
+        }
+        // One write for the whole backfill
+        saveManifest();
+        System.out.println("Generated variants for " + generated + " of " + originals.size() + " photos");
+    }
+}
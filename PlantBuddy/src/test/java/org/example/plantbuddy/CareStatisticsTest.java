@@ -0,0 +1,139 @@
+package org.example.plantbuddy;
+
+import org.example.plantbuddy.dao.InMemoryPlantRepository;
+import org.example.plantbuddy.dao.SettableClock;
+import org.example.plantbuddy.model.AdherenceStats;
+import org.example.plantbuddy.model.LocationAdherence;
+import org.example.plantbuddy.model.Plant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CareStatisticsTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private SettableClock clock;
+    private InMemoryPlantRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        clock = new SettableClock(START);
+        repository = new InMemoryPlantRepository(clock);
+    }
+
+    @Test
+    void rebuildAfterCompactionKeepsRegularCare() {
+        int plantId = addPlant("Fern", "Balcony");
+        waterOn(plantId, 8, 15, 22, 29, 36, 43);
+
+        CareStatistics statistics = new CareStatistics(repository);
+        statistics.start().join();
+        AdherenceStats before = statistics.getPlantStats(plantId, "Watering");
+
+        // The initial setup and the January waterings only survive as the January rollups
+        repository.compactCareEvents(LocalDateTime.of(2024, 2, 1, 0, 0), 100);
+        statistics.rebuild();
+        statistics.shutdown();
+
+        assertEquals(new AdherenceStats(plantId, "Watering", LocalDate.of(2024, 2, 12), 6, 6, 0, 6, 6), before);
+        assertEquals(before, statistics.getPlantStats(plantId, "Watering"));
+        assertEquals(AdherenceStats.startingAt(plantId, "Fertilizing", START.toLocalDate()),
+                statistics.getPlantStats(plantId, "Fertilizing"));
+    }
+
+    @Test
+    void rebuildAfterCompactionAveragesEarlyAndLateCareInsideAMonth() {
+        int plantId = addPlant("Fern", "Balcony");
+        // Due every 7 days: twice 2 days apart, then 8 days late, then 5 days late on February 1st
+        waterOn(plantId, 3, 5, 20, 32);
+
+        CareStatistics statistics = new CareStatistics(repository);
+        statistics.start().join();
+        AdherenceStats before = statistics.getPlantStats(plantId, "Watering");
+        repository.compactCareEvents(LocalDateTime.of(2024, 2, 1, 0, 0), 100);
+        statistics.rebuild();
+        statistics.shutdown();
+
+        assertEquals(new AdherenceStats(plantId, "Watering", LocalDate.of(2024, 2, 1), 4, 2, 13, 0, 2), before);
+        // January is replayed as the 3rd, 12th and 20th: the care dates at the month's edges are kept,
+        // the on-time count and lateness inside the month are not
+        assertEquals(new AdherenceStats(plantId, "Watering", LocalDate.of(2024, 2, 1), 4, 1, 8, 0, 1),
+                statistics.getPlantStats(plantId, "Watering"));
+    }
+
+    @Test
+    void rebuildAfterCompactionSpreadsSameDayCare() {
+        int plantId = addPlant("Fern", "Balcony");
+        waterOn(plantId, 8, 8, 15, 36);
+
+        CareStatistics statistics = new CareStatistics(repository);
+        statistics.start().join();
+        AdherenceStats before = statistics.getPlantStats(plantId, "Watering");
+        repository.compactCareEvents(LocalDateTime.of(2024, 2, 1, 0, 0), 100);
+        statistics.rebuild();
+        statistics.shutdown();
+
+        // The second watering on the 8th closes no interval live, but becomes the 12th once compacted
+        assertEquals(new AdherenceStats(plantId, "Watering", LocalDate.of(2024, 2, 5), 3, 2, 14, 0, 2), before);
+        assertEquals(new AdherenceStats(plantId, "Watering", LocalDate.of(2024, 2, 5), 4, 3, 14, 0, 3),
+                statistics.getPlantStats(plantId, "Watering"));
+    }
+
+    @Test
+    void restoreFromTheCheckpointIsExactAfterCompaction() {
+        int plantId = addPlant("Fern", "Balcony");
+        waterOn(plantId, 3, 5, 20, 32);
+
+        CareStatistics statistics = new CareStatistics(repository);
+        statistics.start().join();
+        AdherenceStats before = statistics.getPlantStats(plantId, "Watering");
+        statistics.shutdown();
+        repository.compactCareEvents(LocalDateTime.of(2024, 2, 1, 0, 0), 100);
+
+        CareStatistics restored = new CareStatistics(repository);
+        restored.start().join();
+        restored.shutdown();
+
+        assertEquals(before, restored.getPlantStats(plantId, "Watering"));
+    }
+
+    @Test
+    void locationStatsAddUpThePlantsInTheLocation() {
+        int fern = addPlant("Fern", "Balcony");
+        int palm = addPlant("Palm", "Balcony");
+        int cactus = addPlant("Cactus", "Kitchen");
+        waterOn(fern, 8, 15);
+        waterOn(palm, 10);
+        waterOn(cactus, 8);
+
+        CareStatistics statistics = new CareStatistics(repository);
+        statistics.start().join();
+        statistics.shutdown();
+
+        // Fern: two intervals on time; palm: one interval, two days late
+        assertEquals(new LocationAdherence("Balcony", "Watering", 2, 3, 2, 2, 2),
+                statistics.getLocationStats("Balcony", "Watering"));
+        assertEquals(new LocationAdherence("Kitchen", "Watering", 1, 1, 1, 0, 1),
+                statistics.getLocationStats("Kitchen", "Watering"));
+    }
+
+    private int addPlant(String name, String location) {
+        clock.set(START);
+        return repository.addPlant(new Plant(0, name, null, location, "Shade", START.toLocalDate(),
+                7, 30, null, null));
+    }
+
+    /**
+     * Waters a plant at 9:00 on each of the given days, counted from January 1st as day 1
+     */
+    private void waterOn(int plantId, int... days) {
+        for (int day : days) {
+            clock.set(START.plusDays(day - 1));
+            repository.addCareEvent(plantId, "Watering", null);
+        }
+    }
+}
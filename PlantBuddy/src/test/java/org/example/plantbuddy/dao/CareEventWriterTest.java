@@ -0,0 +1,71 @@
+package org.example.plantbuddy.dao;
+
+import org.example.plantbuddy.dao.CareEventWriter.PendingCareEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CareEventWriterTest {
+    private final List<Integer> written = new ArrayList<>();
+    private CareEventWriter writer;
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        writer.shutdown();
+    }
+
+    @Test
+    void flushWritesEventsTheWriterThreadIsCollecting() throws SQLException {
+        // A short flush interval keeps the writer thread collecting while the test flushes
+        writer = new CareEventWriter(this::record, 1000, 10, 1, 1000);
+
+        for (int i = 1; i <= 2000; i++) {
+            writer.enqueue(event(i));
+            writer.flush();
+            synchronized (written) {
+                assertEquals(i, written.size(), "Event " + i + " was not written by the flush");
+            }
+        }
+        assertEquals(0, writer.getPendingCount());
+    }
+
+    @Test
+    void synchronousWritesKeepTheOrderEventsWereAccepted() throws SQLException {
+        // A full queue makes every other enqueue write synchronously, racing the writer thread
+        writer = new CareEventWriter(this::record, 1, 10, 1, 0);
+
+        for (int i = 1; i <= 2000; i++) {
+            writer.enqueue(event(i));
+        }
+        writer.flush();
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 1; i <= 2000; i++) {
+            expected.add(i);
+        }
+        synchronized (written) {
+            assertEquals(expected, written);
+        }
+    }
+
+    private void record(List<PendingCareEvent> events) {
+        synchronized (written) {
+            for (PendingCareEvent event : events) {
+                written.add(event.plantId());
+            }
+        }
+    }
+
+    /**
+     * @return A watering event, with the plant ID standing for the order it was accepted in
+     */
+    private static PendingCareEvent event(int order) {
+        return new PendingCareEvent(order, "Watering", null, LocalDateTime.now());
+    }
+}
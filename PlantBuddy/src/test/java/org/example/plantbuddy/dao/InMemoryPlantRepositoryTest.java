@@ -0,0 +1,145 @@
+package org.example.plantbuddy.dao;
+
+import org.example.plantbuddy.model.CareEvent;
+import org.example.plantbuddy.model.CareStatus;
+import org.example.plantbuddy.model.CareSummary;
+import org.example.plantbuddy.model.Plant;
+import org.example.plantbuddy.model.Reminder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryPlantRepositoryTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private SettableClock clock;
+    private InMemoryPlantRepository repository;
+    private int plantId;
+
+    @BeforeEach
+    void setUp() {
+        clock = new SettableClock(START);
+        repository = new InMemoryPlantRepository(clock);
+        plantId = repository.addPlant(new Plant(0, "Fern", "Nephrolepis exaltata", "Balcony", "Shade",
+                START.toLocalDate(), 7, 30, null, null));
+    }
+
+    @Test
+    void careHistoryPagesThroughEventsWithTheSameTime() {
+        // The initial setup and four waterings all share one timestamp, so only the ID orders them
+        for (int i = 0; i < 4; i++) {
+            repository.addCareEvent(plantId, "Watering", "Watering " + i);
+        }
+
+        List<Integer> ids = new ArrayList<>();
+        CareEvent after = null;
+        while (true) {
+            List<CareEvent> page = repository.getCareHistory(plantId, START.minusDays(1), START, after, 2);
+            page.forEach(event -> ids.add(event.id()));
+            if (page.size() < 2) {
+                break;
+            }
+            after = page.get(page.size() - 1);
+        }
+
+        assertEquals(List.of(5, 4, 3, 2, 1), ids);
+    }
+
+    @Test
+    void firstCareHistoryPageIncludesEventsAtTheUpperBound() {
+        // Without a previous page every event at exactly "to" is on the first page,
+        // as the Integer.MAX_VALUE ID bound does in the database implementation
+        repository.addCareEvent(plantId, "Watering", null);
+
+        List<CareEvent> page = repository.getCareHistory(plantId, START, START, null, 10);
+
+        assertEquals(2, page.size());
+        assertEquals("Watering", page.get(0).eventType());
+        assertEquals("Initial Setup", page.get(1).eventType());
+    }
+
+    @Test
+    void repeatedCompactionFoldsIntoTheExistingRollup() {
+        for (int day = 8; day <= 29; day += 7) {
+            clock.set(START.withDayOfMonth(day));
+            repository.addCareEvent(plantId, "Watering", null);
+        }
+        LocalDateTime cutoff = LocalDateTime.of(2024, 2, 1, 0, 0);
+
+        // Two waterings per run: the first two runs fold into the same January rollup
+        assertEquals(2, repository.compactCareEvents(cutoff, 2));
+        assertEquals(2, repository.compactCareEvents(cutoff, 2));
+        assertEquals(1, repository.compactCareEvents(cutoff, 2));
+        assertEquals(0, repository.compactCareEvents(cutoff, 2));
+
+        List<CareSummary> summaries = repository.getCareSummaries(plantId);
+        assertEquals(2, summaries.size());
+        CareSummary watering = summaries.get(1);
+        assertEquals("Watering", watering.eventType());
+        assertEquals(YearMonth.of(2024, 1), watering.month());
+        assertEquals(4, watering.eventCount());
+        assertEquals(START.withDayOfMonth(8), watering.firstEvent());
+        assertEquals(START.withDayOfMonth(29), watering.lastEvent());
+        assertEquals("Initial Setup", summaries.get(0).eventType());
+        assertTrue(repository.getCareHistory(plantId, START, cutoff, null, 10).isEmpty());
+    }
+
+    @Test
+    void careHistoryStreamSeesEveryEventOnce() {
+        for (int day = 8; day <= 36; day += 7) {
+            clock.set(START.plusDays(day - 1));
+            repository.addCareEvent(plantId, "Watering", null);
+        }
+        repository.compactCareEvents(LocalDateTime.of(2024, 1, 20, 0, 0), 100);
+
+        int[] seen = new int[1];
+        List<LocalDate> eventDates = new ArrayList<>();
+        repository.streamCareHistory(summary -> seen[0] += summary.eventCount(),
+                event -> eventDates.add(event.eventDate().toLocalDate()));
+
+        // Setup and two waterings compacted, the other three left as events, oldest first
+        assertEquals(3, seen[0]);
+        assertEquals(List.of(LocalDate.of(2024, 1, 22), LocalDate.of(2024, 1, 29), LocalDate.of(2024, 2, 5)),
+                eventDates);
+    }
+
+    @Test
+    void dueRemindersFollowRescheduling() throws SQLException {
+        int palm = repository.addPlant(new Plant(0, "Palm", null, "Kitchen", "Sun",
+                START.toLocalDate(), 3, 14, null, null));
+
+        // Fern's watering moves from the 8th to the 10th, and only the earliest two of the rest fit the limit
+        clock.set(START.plusDays(2));
+        repository.waterPlant(plantId);
+        List<Reminder> due = repository.getDueReminders(START.toLocalDate(), START.toLocalDate().plusDays(30), 2);
+
+        assertEquals(List.of(LocalDate.of(2024, 1, 4), LocalDate.of(2024, 1, 10)),
+                due.stream().map(Reminder::dueDate).toList());
+        assertEquals(List.of(palm, plantId), due.stream().map(Reminder::plantId).toList());
+    }
+
+    @Test
+    void bulkCareSkipsUnknownPlantsAndSharesOneTime() throws SQLException {
+        int palm = repository.addPlant(new Plant(0, "Palm", null, "Kitchen", "Sun",
+                START.toLocalDate(), 3, 14, null, null));
+        clock.set(START.plusDays(1));
+
+        List<CareStatus> statuses = repository.recordBulkCare(List.of(palm, 999, plantId), "Watering");
+
+        assertEquals(List.of(plantId, palm), statuses.stream().map(CareStatus::plantId).toList());
+        assertEquals(LocalDate.of(2024, 1, 9), statuses.get(0).nextDueDate());
+        assertEquals(LocalDate.of(2024, 1, 5), statuses.get(1).nextDueDate());
+        assertEquals(LocalDate.of(2024, 1, 2), repository.getPlantById(palm).getLastWatered());
+        assertThrows(IllegalArgumentException.class, () -> repository.recordBulkCare(List.of(palm), "Pruning"));
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.plantbuddy.dao;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * A clock the test moves by hand, so care events can be placed on chosen dates
+ */
+public final class SettableClock extends Clock {
+    private final ZoneId zone;
+    private Instant now;
+
+    public SettableClock(LocalDateTime start) {
+        this.zone = ZoneId.systemDefault();
+        set(start);
+    }
+
+    /**
+     * @param time The time the clock reads from now on
+     */
+    public void set(LocalDateTime time) {
+        now = time.atZone(zone).toInstant();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException("Fixed to the system zone");
+    }
+
+    @Override
+    public Instant instant() {
+        return now;
+    }
+}